@@ -0,0 +1,138 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.basics;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.olekdia.basics.LoopsArray.SIZE;
+import static com.olekdia.basics.LoopsArray.THRESHOLD;
+
+/**
+ * The reductions of {@link LoopsArray} written with the incubator Vector API, in the widest
+ * vectors of the CPU. Built only with the {@code vector} profile on JDK 17+:
+ * <pre>
+ * mvn clean package -Pvector
+ * </pre>
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5)
+@Warmup(iterations = 5)
+@Fork(jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class LoopsArrayVector {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    volatile int[] mArr = null;
+    volatile int[] mOther = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(LoopsArrayVector.class).build();
+
+        ScoreReport.print(ResultStore.save(LoopsArrayVector.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mArr = new int[SIZE];
+        mOther = new int[SIZE];
+
+        Random random = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            mArr[i] = random.nextInt(SIZE);
+            mOther[i] = random.nextInt(SIZE);
+        }
+    }
+
+    @Benchmark
+    public int max() {
+        final int[] arr = mArr;
+        final int bound = SPECIES.loopBound(arr.length);
+        IntVector acc = IntVector.broadcast(SPECIES, Integer.MIN_VALUE);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            acc = acc.max(IntVector.fromArray(SPECIES, arr, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < arr.length; i++) {
+            max = Math.max(max, arr[i]);
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int sum() {
+        final int[] arr = mArr;
+        final int bound = SPECIES.loopBound(arr.length);
+        IntVector acc = IntVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            acc = acc.add(IntVector.fromArray(SPECIES, arr, i));
+        }
+        int sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < arr.length; i++) {
+            sum += arr[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int countIf() {
+        final int[] arr = mArr;
+        final int bound = SPECIES.loopBound(arr.length);
+        int count = 0;
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            count += IntVector.fromArray(SPECIES, arr, i)
+                    .compare(VectorOperators.GT, THRESHOLD)
+                    .trueCount();
+        }
+        for (; i < arr.length; i++) {
+            if (arr[i] > THRESHOLD) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int dot() {
+        final int[] a = mArr;
+        final int[] b = mOther;
+        final int bound = SPECIES.loopBound(a.length);
+        IntVector acc = IntVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            acc = acc.add(IntVector.fromArray(SPECIES, a, i).mul(IntVector.fromArray(SPECIES, b, i)));
+        }
+        int dot = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
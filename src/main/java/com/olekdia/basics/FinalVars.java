@@ -15,12 +15,14 @@
  */
 package com.olekdia.basics;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
 
@@ -37,12 +39,9 @@ public class FinalVars {
     }
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(FinalVars.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(FinalVars.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(FinalVars.class, new Runner(opt).run()));
     }
 
     @Benchmark
@@ -15,11 +15,13 @@
  */
 package com.olekdia.basics;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -43,25 +45,31 @@ import java.util.concurrent.TimeUnit;
 public class LoopsArray {
 
     public static final int SIZE = 10_000_000;
+    public static final int THRESHOLD = SIZE / 2;
+
+    /**
+     * JVM option, which switches off C2 auto-vectorization (superword), for the scalar baselines
+     */
+    public static final String NO_SUPERWORD = "-XX:-UseSuperWord";
 
     volatile int[] mArr = null;
+    volatile int[] mOther = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(LoopsArray.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(LoopsArray.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(LoopsArray.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
         mArr = new int[SIZE];
+        mOther = new int[SIZE];
 
         Random random = new Random();
         for (int i = 0; i < SIZE; i++) {
             mArr[i] = random.nextInt(SIZE);
+            mOther[i] = random.nextInt(SIZE);
         }
     }
 
@@ -128,4 +136,151 @@ public class LoopsArray {
     public int lambda() {
         return Arrays.stream(mArr).reduce(Integer.MIN_VALUE, (a, b) -> Math.max(a, b));
     }
-}
\ No newline at end of file
+
+    @Benchmark
+    @Fork(jvmArgsAppend = NO_SUPERWORD)
+    public int maxNoSuperWord() {
+        return max(mArr);
+    }
+
+    /**
+     * Four independent accumulators, so the next max doesn't wait for the previous one
+     */
+    @Benchmark
+    public int maxUnrolled() {
+        final int[] arr = mArr;
+        int max0 = Integer.MIN_VALUE, max1 = Integer.MIN_VALUE, max2 = Integer.MIN_VALUE, max3 = Integer.MIN_VALUE;
+        int i = 0;
+        for (; i <= arr.length - 4; i += 4) {
+            max0 = Math.max(max0, arr[i]);
+            max1 = Math.max(max1, arr[i + 1]);
+            max2 = Math.max(max2, arr[i + 2]);
+            max3 = Math.max(max3, arr[i + 3]);
+        }
+        for (; i < arr.length; i++) {
+            max0 = Math.max(max0, arr[i]);
+        }
+        return Math.max(Math.max(max0, max1), Math.max(max2, max3));
+    }
+
+    @Benchmark
+    public int sum() {
+        return sum(mArr);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = NO_SUPERWORD)
+    public int sumNoSuperWord() {
+        return sum(mArr);
+    }
+
+    @Benchmark
+    public int sumUnrolled() {
+        final int[] arr = mArr;
+        int sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+        int i = 0;
+        for (; i <= arr.length - 4; i += 4) {
+            sum0 += arr[i];
+            sum1 += arr[i + 1];
+            sum2 += arr[i + 2];
+            sum3 += arr[i + 3];
+        }
+        for (; i < arr.length; i++) {
+            sum0 += arr[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    @Benchmark
+    public int countIf() {
+        return countIf(mArr);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = NO_SUPERWORD)
+    public int countIfNoSuperWord() {
+        return countIf(mArr);
+    }
+
+    @Benchmark
+    public int countIfUnrolled() {
+        final int[] arr = mArr;
+        int count0 = 0, count1 = 0, count2 = 0, count3 = 0;
+        int i = 0;
+        for (; i <= arr.length - 4; i += 4) {
+            count0 += arr[i] > THRESHOLD ? 1 : 0;
+            count1 += arr[i + 1] > THRESHOLD ? 1 : 0;
+            count2 += arr[i + 2] > THRESHOLD ? 1 : 0;
+            count3 += arr[i + 3] > THRESHOLD ? 1 : 0;
+        }
+        for (; i < arr.length; i++) {
+            count0 += arr[i] > THRESHOLD ? 1 : 0;
+        }
+        return count0 + count1 + count2 + count3;
+    }
+
+    @Benchmark
+    public int dot() {
+        return dot(mArr, mOther);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = NO_SUPERWORD)
+    public int dotNoSuperWord() {
+        return dot(mArr, mOther);
+    }
+
+    @Benchmark
+    public int dotUnrolled() {
+        final int[] a = mArr;
+        final int[] b = mOther;
+        int dot0 = 0, dot1 = 0, dot2 = 0, dot3 = 0;
+        int i = 0;
+        for (; i <= a.length - 4; i += 4) {
+            dot0 += a[i] * b[i];
+            dot1 += a[i + 1] * b[i + 1];
+            dot2 += a[i + 2] * b[i + 2];
+            dot3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            dot0 += a[i] * b[i];
+        }
+        return dot0 + dot1 + dot2 + dot3;
+    }
+
+    /**
+     * Plain counted loops, the shape C2 auto-vectorizes. Sums and dot products overflow,
+     * but int addition wraps the same way in every variant, so the results still match.
+     */
+    private static int max(final int[] arr) {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < arr.length; i++) {
+            max = Math.max(max, arr[i]);
+        }
+        return max;
+    }
+
+    private static int sum(final int[] arr) {
+        int sum = 0;
+        for (int i = 0; i < arr.length; i++) {
+            sum += arr[i];
+        }
+        return sum;
+    }
+
+    private static int countIf(final int[] arr) {
+        int count = 0;
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] > THRESHOLD) count++;
+        }
+        return count;
+    }
+
+    private static int dot(final int[] a, final int[] b) {
+        int dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.basics;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * The max reduction of {@link LoopsList}, over the same 10M random values held
+ * as {@code List<Integer>}, Eclipse {@link IntArrayList} and {@code int[]}.
+ *
+ * The stream penalty of {@link LoopsList#stream()} splits in two parts:
+ * <ul>
+ *     <li>boxing, {@link #listStreamReduce()} against {@link #listStreamMapToInt()},
+ *     which walk the same pipeline, only the first one boxes every intermediate max,</li>
+ *     <li>the pipeline itself, {@link #listStreamMapToInt()} against {@link #listForEachLoop()},
+ *     which both only unbox the stored values.</li>
+ * </ul>
+ * The {@code int[]} rows repeat the split without the pointer chasing of boxed elements,
+ * with {@link #arrayBoxedStream()} as the boxing row.
+ *
+ * {@link #listForEachWrapper()} is the {@code forEachLambda} of {@link LoopsList}:
+ * the accumulator keeps an {@link Integer}, so each step allocates. The accumulator of
+ * {@link #listForEachAccumulator()} keeps an {@code int} and never leaves the method,
+ * so once {@code forEach} and the lambda are inlined, escape analysis can replace it with a local.
+ * Check the {@code gc.alloc.rate.norm} column: it should be close to 0 B/op.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class LoopsBoxing {
+
+    public static final int SIZE = 10_000_000;
+
+    final List<Integer> mList = new ArrayList<>(SIZE);
+    final IntArrayList mIntList = new IntArrayList(SIZE);
+    final int[] mArray = new int[SIZE];
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(LoopsBoxing.class).build();
+
+        ScoreReport.print(ResultStore.save(LoopsBoxing.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        final Random random = new Random();
+        for (int i = 0; i < SIZE; i++) {
+            final int n = random.nextInt(SIZE);
+            mList.add(n);
+            mIntList.add(n);
+            mArray[i] = n;
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int listForEachLoop() {
+        int max = Integer.MIN_VALUE;
+        for (Integer n : mList) {
+            max = Integer.max(max, n);
+        }
+        return max;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int listForEachWrapper() {
+        final LoopsList.Wrapper wrapper = new LoopsList.Wrapper();
+        wrapper.inner = Integer.MIN_VALUE;
+
+        mList.forEach(n -> wrapper.inner = Math.max(n, wrapper.inner));
+        return wrapper.inner;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int listForEachAccumulator() {
+        final IntMax acc = new IntMax();
+        mList.forEach(acc::accept);
+        return acc.mMax;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int listStreamReduce() {
+        return mList.stream().reduce(Integer::max).get();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int listStreamMapToInt() {
+        return mList.stream().mapToInt(Integer::intValue).max().getAsInt();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int intListLoop() {
+        int max = Integer.MIN_VALUE;
+        final IntArrayList list = mIntList;
+        for (int i = 0, size = list.size(); i < size; i++) {
+            max = Integer.max(max, list.get(i));
+        }
+        return max;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int intListForEachAccumulator() {
+        final IntMax acc = new IntMax();
+        mIntList.forEach(acc::accept);
+        return acc.mMax;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int intListMax() {
+        return mIntList.max();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int arrayLoop() {
+        int max = Integer.MIN_VALUE;
+        for (int n : mArray) {
+            max = Integer.max(max, n);
+        }
+        return max;
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int arrayIntStream() {
+        return IntStream.of(mArray).max().getAsInt();
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int arrayIntStreamReduce() {
+        return IntStream.of(mArray).reduce(Integer.MIN_VALUE, Integer::max);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    @Benchmark
+    public int arrayBoxedStream() {
+        return IntStream.of(mArray).boxed().reduce(Integer::max).get();
+    }
+
+    /**
+     * Plain int accumulator, which is both a {@code Consumer<Integer>} target
+     * and an Eclipse {@code IntProcedure} target through {@code acc::accept}
+     */
+    static final class IntMax {
+        int mMax = Integer.MIN_VALUE;
+
+        void accept(final int n) {
+            if (n > mMax) mMax = n;
+        }
+    }
+}
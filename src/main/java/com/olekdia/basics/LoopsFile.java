@@ -0,0 +1,200 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.basics;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The max reduction of {@link LoopsArray}, over random ints in a file instead of an array:
+ * through memory mapped segments, chunked FileChannel reads into a direct buffer, and a DataInputStream.
+ *
+ * The file is written once per trial and read through before measuring, so the page cache is warm
+ * and the numbers show the cost of the I/O path, not of the disk. Its biggest size is 4 times the
+ * heap of the forked JVM. The ints are big endian, the order DataInputStream reads.
+ * The file goes to {@code -Dbenchmark.tmpdir}, or to {@code java.io.tmpdir}.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5)
+@Warmup(iterations = 2)
+@Fork(jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class LoopsFile {
+
+    public static final String TMP_DIR_PROPERTY = "benchmark.tmpdir";
+
+    /**
+     * One mapping can't be bigger than 2 GB
+     */
+    private static final int SEGMENT_BYTES = 1 << 30;
+    private static final int CHUNK_BYTES = 1 << 20;
+    private static final int STREAM_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Number of ints, from 40 MB up to 4 GB
+     */
+    @Param({"10000000", "100000000", "1000000000"})
+    public long size;
+
+    private volatile Path mFile = null;
+    private volatile FileChannel mChannel = null;
+    private volatile MappedByteBuffer[] mSegments = null;
+    private volatile ByteBuffer mChunk = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(LoopsFile.class).build();
+
+        final Collection<RunResult> results = ResultStore.save(LoopsFile.class, new Runner(opt).run());
+        ScoreReport.print(results);
+        printThroughput(results);
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        final String dir = System.getProperty(TMP_DIR_PROPERTY, System.getProperty("java.io.tmpdir"));
+        mFile = Files.createTempFile(Paths.get(dir), "LoopsFile", ".bin");
+        mFile.toFile().deleteOnExit();
+        write(mFile, size);
+
+        mChannel = FileChannel.open(mFile, StandardOpenOption.READ);
+        final long bytes = mChannel.size();
+        mSegments = new MappedByteBuffer[(int) ((bytes + SEGMENT_BYTES - 1) / SEGMENT_BYTES)];
+        for (int i = 0; i < mSegments.length; i++) {
+            final long position = (long) i * SEGMENT_BYTES;
+            mSegments[i] = mChannel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(SEGMENT_BYTES, bytes - position));
+        }
+        mChunk = ByteBuffer.allocateDirect(CHUNK_BYTES);
+
+        // Warm the page cache
+        channelRead();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mSegments = null;
+        mChannel.close();
+        Files.deleteIfExists(mFile);
+    }
+
+    @Benchmark
+    public int mapped() {
+        int max = Integer.MIN_VALUE;
+        for (MappedByteBuffer segment : mSegments) {
+            final IntBuffer ints = segment.asIntBuffer();
+            for (int i = 0, limit = ints.limit(); i < limit; i++) {
+                max = Math.max(max, ints.get(i));
+            }
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int channelRead() throws IOException {
+        final FileChannel channel = mChannel;
+        final ByteBuffer chunk = mChunk;
+        int max = Integer.MIN_VALUE;
+        long position = 0;
+        while (true) {
+            chunk.clear();
+            final int read = channel.read(chunk, position);
+            if (read <= 0) break;
+            position += read;
+            chunk.flip();
+
+            final IntBuffer ints = chunk.asIntBuffer();
+            for (int i = 0, limit = ints.limit(); i < limit; i++) {
+                max = Math.max(max, ints.get(i));
+            }
+            // A read can stop in the middle of an int, the rest of it is read again with the next chunk
+            position -= read & 3;
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int dataInputStream() throws IOException {
+        int max = Integer.MIN_VALUE;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(mFile.toFile()), STREAM_BUFFER_BYTES))) {
+            for (long i = 0; i < size; i++) {
+                max = Math.max(max, in.readInt());
+            }
+        }
+        return max;
+    }
+
+    private static void write(final Path file, final long size) throws IOException {
+        final Random random = new Random(42);
+        final int bound = (int) Math.min(size, Integer.MAX_VALUE);
+        final ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_BYTES);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long left = size;
+            while (left > 0) {
+                chunk.clear();
+                final IntBuffer ints = chunk.asIntBuffer();
+                final int count = (int) Math.min(left, ints.capacity());
+                for (int i = 0; i < count; i++) {
+                    ints.put(random.nextInt(bound));
+                }
+                chunk.limit(count * 4);
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+                left -= count;
+            }
+        }
+    }
+
+    private static void printThroughput(final Collection<RunResult> results) {
+        if (results.isEmpty()) return;
+
+        final StringBuilder sb = new StringBuilder()
+                .append("| Benchmark | Size _GB_ | Throughput _GB/s_ |\n")
+                .append("| ------ | ------ | ------ |\n");
+        for (RunResult r : results) {
+            final double gigabytes = Long.parseLong(r.getParams().getParam("size")) * 4 / 1e9;
+            final double seconds = r.getPrimaryResult().getScore() / 1e3;
+            sb.append("| ").append(ScoreReport.nameOf(r))
+                    .append(" | ").append(String.format(Locale.US, "%.3f", gigabytes))
+                    .append(" | ").append(String.format(Locale.US, "%.2f", gigabytes / seconds))
+                    .append(" |\n");
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
@@ -15,11 +15,13 @@
  */
 package com.olekdia.basics;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -56,12 +58,9 @@ public class LoopsList {
     final List<Integer> mList = new ArrayList<>(SIZE);
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(LoopsList.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(LoopsList.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(LoopsList.class, new Runner(opt).run()));
     }
 
     @Setup
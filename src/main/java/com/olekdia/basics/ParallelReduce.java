@@ -0,0 +1,217 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.basics;
+
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The max reduction of {@link LoopsArray} and {@link LoopsList}, sequential against parallel,
+ * from 1K to 100M elements. Parallel runs go to a pool of {@code parallelism} threads, either
+ * through a parallel stream, or through a RecursiveTask, which stops splitting at {@code threshold} elements.
+ *
+ * main() sweeps the parallelism over 1, 2, 4, ... cores and prints, for every parallel variant,
+ * the smallest size from which it beats the sequential loop over the same source.
+ * The list variants are in {@link ParallelReduceList}, which stops at 10M, 100M boxed ints don't fit a default heap.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ParallelReduce {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int size;
+
+    private volatile int[] mArray = null;
+
+    /**
+     * Only the parallel variants take this state, so the sequential ones are not repeated for every parallelism
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        /**
+         * main() replaces it with 1, 2, 4, ... cores
+         */
+        @Param({"1"})
+        public int parallelism;
+
+        ForkJoinPool mPool;
+
+        @Setup
+        public void setup() {
+            mPool = new ForkJoinPool(parallelism);
+        }
+
+        @TearDown
+        public void tearDown() {
+            mPool.shutdown();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Leaf {
+        @Param({"1024", "16384", "131072"})
+        public int threshold;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        run(ParallelReduce.class);
+    }
+
+    /**
+     * Runs the benchmark with every parallelism, prints the scores per element and the break-even sizes
+     */
+    static void run(final Class<?> benchmark) throws RunnerException {
+        Options opt = BenchmarkOptions.of(benchmark)
+                .param("parallelism", ContentionReport.threadCounts().stream()
+                        .map(String::valueOf)
+                        .toArray(String[]::new))
+                .build();
+
+        final Collection<RunResult> results = ResultStore.save(benchmark, new Runner(opt).run());
+        ScalingReport.printPerElement(results);
+        printBreakEven(results);
+    }
+
+    @Setup
+    public void setup() {
+        mArray = new int[size];
+        Random random = new Random();
+        for (int i = 0; i < size; i++) {
+            mArray[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public int arraySequential() {
+        final int[] arr = mArray;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < arr.length; i++) {
+            max = Math.max(max, arr[i]);
+        }
+        return max;
+    }
+
+    /**
+     * A parallel stream started inside a pool runs on that pool, not on the common one
+     */
+    @Benchmark
+    public int arrayParallelStream(final Pool pool) {
+        return pool.mPool.submit(
+                () -> Arrays.stream(mArray).parallel().reduce(Integer.MIN_VALUE, Math::max)
+        ).join();
+    }
+
+    @Benchmark
+    public int arrayForkJoin(final Pool pool, final Leaf leaf) {
+        return pool.mPool.invoke(new ArrayMax(mArray, 0, mArray.length, leaf.threshold));
+    }
+
+    static class ArrayMax extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] mArr;
+        private final int mFrom;
+        private final int mTo;
+        private final int mThreshold;
+
+        ArrayMax(final int[] arr, final int from, final int to, final int threshold) {
+            mArr = arr;
+            mFrom = from;
+            mTo = to;
+            mThreshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (mTo - mFrom <= mThreshold) {
+                int max = Integer.MIN_VALUE;
+                for (int i = mFrom; i < mTo; i++) {
+                    max = Math.max(max, mArr[i]);
+                }
+                return max;
+            }
+
+            final int middle = (mFrom + mTo) >>> 1;
+            final ArrayMax left = new ArrayMax(mArr, mFrom, middle, mThreshold);
+            left.fork();
+            final int right = new ArrayMax(mArr, middle, mTo, mThreshold).compute();
+            return Math.max(right, left.join());
+        }
+    }
+
+    /**
+     * Break-even size of a parallel variant: the smallest size, from which it is faster than
+     * the sequential loop over the same source at this and every bigger size.
+     */
+    private static void printBreakEven(final Collection<RunResult> results) {
+        final Map<String, Double> sequential = new HashMap<>();
+        final Map<String, TreeMap<Integer, Double>> variants = new TreeMap<>();
+
+        for (RunResult r : results) {
+            final String benchmark = r.getParams().getBenchmark();
+            final String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            final String source = method.startsWith("array") ? "array" : "list";
+            final int size = Integer.parseInt(r.getParams().getParam("size"));
+            final double score = r.getPrimaryResult().getScore();
+
+            if (method.endsWith("Sequential")) {
+                sequential.put(source + size, score);
+                continue;
+            }
+            final StringBuilder name = new StringBuilder(method);
+            for (String key : r.getParams().getParamsKeys()) {
+                if (key.equals("size")) continue;
+                name.append(' ').append(key).append('=').append(r.getParams().getParam(key));
+            }
+            variants.computeIfAbsent(name.toString(), k -> new TreeMap<>()).put(size, score);
+        }
+        if (variants.isEmpty()) return;
+
+        final StringBuilder sb = new StringBuilder()
+                .append("| Parallel variant | Break-even size |\n")
+                .append("| ------ | ------ |\n");
+        for (Map.Entry<String, TreeMap<Integer, Double>> variant : variants.entrySet()) {
+            final String source = variant.getKey().startsWith("array") ? "array" : "list";
+            Integer breakEven = null;
+            for (Map.Entry<Integer, Double> point : variant.getValue().descendingMap().entrySet()) {
+                final Double baseline = sequential.get(source + point.getKey());
+                if (baseline == null || point.getValue() >= baseline) break;
+                breakEven = point.getKey();
+            }
+            sb.append("| ").append(variant.getKey())
+                    .append(" | ").append(breakEven == null ? "never" : breakEven)
+                    .append(" |\n");
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
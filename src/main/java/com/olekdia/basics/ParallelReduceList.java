@@ -0,0 +1,112 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.basics;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The list variants of {@link ParallelReduce}, with the same pools and leaf sizes,
+ * up to 10M elements only, 100M boxed ints don't fit a default heap.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ParallelReduceList {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private volatile List<Integer> mList = null;
+
+    public static void main(String[] args) throws RunnerException {
+        ParallelReduce.run(ParallelReduceList.class);
+    }
+
+    @Setup
+    public void setup() {
+        mList = new ArrayList<>(size);
+        Random random = new Random();
+        for (int i = 0; i < size; i++) {
+            mList.add(random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public int listSequential() {
+        final List<Integer> list = mList;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < list.size(); i++) {
+            max = Math.max(max, list.get(i));
+        }
+        return max;
+    }
+
+    @Benchmark
+    public int listParallelStream(final ParallelReduce.Pool pool) {
+        final List<Integer> list = mList;
+        return pool.mPool.submit(
+                () -> list.parallelStream().reduce(Integer.MIN_VALUE, Math::max)
+        ).join();
+    }
+
+    @Benchmark
+    public int listForkJoin(final ParallelReduce.Pool pool, final ParallelReduce.Leaf leaf) {
+        final List<Integer> list = mList;
+        return pool.mPool.invoke(new ListMax(list, 0, list.size(), leaf.threshold));
+    }
+
+    static class ListMax extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Integer> mList;
+        private final int mFrom;
+        private final int mTo;
+        private final int mThreshold;
+
+        ListMax(final List<Integer> list, final int from, final int to, final int threshold) {
+            mList = list;
+            mFrom = from;
+            mTo = to;
+            mThreshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (mTo - mFrom <= mThreshold) {
+                int max = Integer.MIN_VALUE;
+                for (int i = mFrom; i < mTo; i++) {
+                    max = Math.max(max, mList.get(i));
+                }
+                return max;
+            }
+
+            final int middle = (mFrom + mTo) >>> 1;
+            final ListMax left = new ListMax(mList, mFrom, middle, mThreshold);
+            left.fork();
+            final int right = new ListMax(mList, middle, mTo, mThreshold).compute();
+            return Math.max(right, left.join());
+        }
+    }
+}
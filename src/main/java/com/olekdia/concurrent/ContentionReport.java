@@ -0,0 +1,89 @@
+package com.olekdia.concurrent;
+
+import com.olekdia.runner.ScoreReport;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Prints the results of a thread count sweep as a markdown table:
+ * one row per benchmark and params, one column per thread count.
+ * When the GC profiler was on, a second table shows the allocated bytes the same way.
+ */
+public class ContentionReport {
+
+    /**
+     * 1, 2, 4, ... up to the number of available cores, which is always included.
+     */
+    public static List<Integer> threadCounts() {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> counts = new ArrayList<>();
+        for (int t = 1; t < cores; t <<= 1) {
+            counts.add(t);
+        }
+        counts.add(cores);
+        return counts;
+    }
+
+    public static void print(final Collection<RunResult> results) {
+        if (results.isEmpty()) return;
+
+        final String unit = results.iterator().next().getPrimaryResult().getScoreUnit();
+        printTable(results, unit, r -> r.getPrimaryResult().getScore());
+        // Bytes/op of the GC profiler, only if it was on
+        printTable(results, "B/op", ScoreReport::allocPerOp);
+    }
+
+    private static void printTable(
+            final Collection<RunResult> results,
+            final String unit,
+            final Function<RunResult, Double> score
+    ) {
+        final TreeSet<Integer> threads = new TreeSet<>();
+        final Map<String, Map<Integer, Double>> rows = new LinkedHashMap<>();
+
+        for (RunResult r : results) {
+            final Double value = score.apply(r);
+            if (value == null) continue;
+
+            final String name = ScoreReport.nameOf(r);
+            final int threadCount = r.getParams().getThreads();
+
+            threads.add(threadCount);
+            rows.computeIfAbsent(name, k -> new HashMap<>())
+                    .put(threadCount, value);
+
+            // @Group benchmarks: also report every member of the group on its own row,
+            // members only have a score, so they are skipped in the allocation table
+            for (Object label : r.getParams().getThreadGroupLabels()) {
+                final Result<?> groupMember = r.getSecondaryResults().get(label.toString());
+                if (groupMember == null || !groupMember.getScoreUnit().equals(unit)) continue;
+
+                rows.computeIfAbsent(name + " " + label, k -> new HashMap<>())
+                        .put(threadCount, groupMember.getScore());
+            }
+        }
+        if (rows.isEmpty()) return;
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Benchmark \\ threads, _").append(unit).append("_ |");
+        for (Integer t : threads) sb.append(' ').append(t).append(" |");
+        sb.append('\n').append("| ------ |");
+        for (int i = 0; i < threads.size(); i++) sb.append(" ------ |");
+        sb.append('\n');
+
+        for (Map.Entry<String, Map<Integer, Double>> row : rows.entrySet()) {
+            sb.append("| ").append(row.getKey()).append(" |");
+            for (Integer t : threads) {
+                final Double value = row.getValue().get(t);
+                sb.append(' ').append(value == null ? "-" : String.format(Locale.US, "%.1f", value)).append(" |");
+            }
+            sb.append('\n');
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.concurrent;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dedicated reader and writer threads over a shared map, so read and write throughput
+ * are reported separately. The default group is 3 readers and 1 writer, other splits
+ * can be set with -tg readers,writers. main() keeps one writer and sweeps the readers
+ * up to the number of cores.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+public class MapReadersWriters {
+
+    @Param({
+            SharedMaps.CONCURRENT_HASH_MAP,
+            SharedMaps.ECLIPSE_CONCURRENT_HASH_MAP,
+            SharedMaps.SYNCHRONIZED_HASH_MAP,
+            SharedMaps.HASH_PMAP_SNAPSHOT,
+            SharedMaps.JIMMUTABLE_HASH_MAP_SNAPSHOT
+    })
+    public String map;
+
+    @Param({"100000"})
+    public int size;
+
+    private volatile Integer[] mKeys = null;
+    private volatile SharedMap mMap = null;
+
+    public static void main(String[] args) throws RunnerException {
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            if (threads < 2) continue;
+
+            Options opt = BenchmarkOptions.of(MapReadersWriters.class)
+                    .threadGroups(threads - 1, 1)
+                    .build();
+
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(MapReadersWriters.class, results);
+        ContentionReport.print(results);
+    }
+
+    @State(Scope.Thread)
+    public static class Ops {
+        OpStream mStream;
+
+        @Setup
+        public void setup(final MapReadersWriters benchmark) {
+            mStream = new OpStream(benchmark.size, 0);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        mKeys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mKeys[i] = Integer.valueOf(i);
+        }
+        mMap = SharedMaps.create(map, mKeys);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Integer reader(final Ops ops) {
+        final OpStream stream = ops.mStream;
+        return mMap.get(mKeys[stream.keyIndex(stream.next())]);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Integer writer(final Ops ops) {
+        final OpStream stream = ops.mStream;
+        final Integer key = mKeys[stream.keyIndex(stream.next())];
+        mMap.put(key, key);
+        return key;
+    }
+}
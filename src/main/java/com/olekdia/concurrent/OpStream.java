@@ -0,0 +1,38 @@
+package com.olekdia.concurrent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Pre-generated sequence of reads and writes over random keys, replayed by one benchmark thread,
+ * so no random numbers are drawn while measuring.
+ */
+public class OpStream {
+
+    private static final int LENGTH = 1 << 16;
+    private static final int MASK = LENGTH - 1;
+
+    private final int[] mKeyIndices = new int[LENGTH];
+    private final boolean[] mWrites = new boolean[LENGTH];
+    private int mCursor;
+
+    public OpStream(final int keyCount, final int writePercent) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < LENGTH; i++) {
+            mKeyIndices[i] = random.nextInt(keyCount);
+            mWrites[i] = random.nextInt(100) < writePercent;
+        }
+        mCursor = random.nextInt(LENGTH);
+    }
+
+    public int next() {
+        return mCursor = (mCursor + 1) & MASK;
+    }
+
+    public int keyIndex(final int op) {
+        return mKeyIndices[op];
+    }
+
+    public boolean isWrite(final int op) {
+        return mWrites[op];
+    }
+}
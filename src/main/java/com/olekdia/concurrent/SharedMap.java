@@ -0,0 +1,12 @@
+package com.olekdia.concurrent;
+
+/**
+ * Minimal map contract shared by the contention benchmarks, so every contender is driven by
+ * the same code and only the synchronization strategy differs.
+ */
+public interface SharedMap {
+
+    Integer get(Integer key);
+
+    void put(Integer key, Integer value);
+}
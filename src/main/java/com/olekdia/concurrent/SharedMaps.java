@@ -0,0 +1,159 @@
+package com.olekdia.concurrent;
+
+import org.javimmutable.collections.JImmutableMap;
+import org.javimmutable.collections.util.JImmutables;
+import org.pcollections.HashTreePMap;
+import org.pcollections.IntTreePMap;
+import org.pcollections.PMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SharedMaps {
+
+    public static final String CONCURRENT_HASH_MAP = "ConcurrentHashMap";
+    public static final String ECLIPSE_CONCURRENT_HASH_MAP = "EclipseConcurrentHashMap";
+    public static final String SYNCHRONIZED_HASH_MAP = "SynchronizedHashMap";
+    public static final String HASH_PMAP_SNAPSHOT = "HashPMapSnapshot";
+    public static final String INT_TREE_PMAP_SNAPSHOT = "IntTreePMapSnapshot";
+    public static final String JIMMUTABLE_HASH_MAP_SNAPSHOT = "JImmutableHashMapSnapshot";
+
+    public static SharedMap create(final String type, final Integer[] keys) {
+        switch (type) {
+            case CONCURRENT_HASH_MAP:
+                return fill(new MutableSharedMap(new java.util.concurrent.ConcurrentHashMap<>(keys.length)), keys);
+            case ECLIPSE_CONCURRENT_HASH_MAP:
+                return fill(new MutableSharedMap(
+                        org.eclipse.collections.impl.map.mutable.ConcurrentHashMap.newMap(keys.length)), keys);
+            case SYNCHRONIZED_HASH_MAP:
+                return fill(new MutableSharedMap(Collections.synchronizedMap(new HashMap<>(keys.length))), keys);
+            case HASH_PMAP_SNAPSHOT:
+                return fill(new HashPMapSnapshot(), keys);
+            case INT_TREE_PMAP_SNAPSHOT:
+                return fill(new IntTreePMapSnapshot(), keys);
+            case JIMMUTABLE_HASH_MAP_SNAPSHOT:
+                return fill(new JImmutableMapSnapshot(), keys);
+            default:
+                throw new IllegalArgumentException("Unknown shared map: " + type);
+        }
+    }
+
+    private static SharedMap fill(final SharedMap m, final Integer[] keys) {
+        for (Integer k : keys) m.put(k, k);
+        return m;
+    }
+
+    /**
+     * Any thread safe {@link Map}: lock striped, CAS based or guarded by a single monitor.
+     */
+    public static class MutableSharedMap implements SharedMap {
+        private final Map<Integer, Integer> mMap;
+
+        public MutableSharedMap(final Map<Integer, Integer> map) {
+            mMap = map;
+        }
+
+        @Override
+        public Integer get(final Integer key) {
+            return mMap.get(key);
+        }
+
+        @Override
+        public void put(final Integer key, final Integer value) {
+            mMap.put(key, value);
+        }
+    }
+
+    /**
+     * Readers take the current persistent snapshot without any locking,
+     * writers derive a new version and publish it with a CAS, retrying on conflict.
+     */
+    public abstract static class Snapshot<M> implements SharedMap {
+        private final AtomicReference<M> mRef;
+
+        protected Snapshot(final M empty) {
+            mRef = new AtomicReference<>(empty);
+        }
+
+        protected abstract M plus(M map, Integer key, Integer value);
+
+        protected abstract Integer get(M map, Integer key);
+
+        @Override
+        public Integer get(final Integer key) {
+            return get(mRef.get(), key);
+        }
+
+        @Override
+        public void put(final Integer key, final Integer value) {
+            update(key, value);
+        }
+
+        /**
+         * @return number of compareAndSet attempts, 1 when no other writer got in the way
+         */
+        public int update(final Integer key, final Integer value) {
+            int attempts = 0;
+            M current;
+            do {
+                attempts++;
+                current = mRef.get();
+            } while (!mRef.compareAndSet(current, plus(current, key, value)));
+            return attempts;
+        }
+    }
+
+    public static class HashPMapSnapshot extends Snapshot<PMap<Integer, Integer>> {
+        public HashPMapSnapshot() {
+            super(HashTreePMap.empty());
+        }
+
+        @Override
+        protected PMap<Integer, Integer> plus(final PMap<Integer, Integer> map, final Integer key, final Integer value) {
+            return map.plus(key, value);
+        }
+
+        @Override
+        protected Integer get(final PMap<Integer, Integer> map, final Integer key) {
+            return map.get(key);
+        }
+    }
+
+    public static class IntTreePMapSnapshot extends Snapshot<IntTreePMap<Integer>> {
+        public IntTreePMapSnapshot() {
+            super(IntTreePMap.empty());
+        }
+
+        @Override
+        protected IntTreePMap<Integer> plus(final IntTreePMap<Integer> map, final Integer key, final Integer value) {
+            return map.plus(key, value);
+        }
+
+        @Override
+        protected Integer get(final IntTreePMap<Integer> map, final Integer key) {
+            return map.get(key);
+        }
+    }
+
+    public static class JImmutableMapSnapshot extends Snapshot<JImmutableMap<Integer, Integer>> {
+        public JImmutableMapSnapshot() {
+            super(JImmutables.map());
+        }
+
+        @Override
+        protected JImmutableMap<Integer, Integer> plus(
+                final JImmutableMap<Integer, Integer> map,
+                final Integer key,
+                final Integer value
+        ) {
+            return map.assign(key, value);
+        }
+
+        @Override
+        protected Integer get(final JImmutableMap<Integer, Integer> map, final Integer key) {
+            return map.get(key);
+        }
+    }
+}
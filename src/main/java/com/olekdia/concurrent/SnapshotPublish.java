@@ -0,0 +1,170 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.concurrent;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistent map snapshot, published through an AtomicReference:
+ * writers derive a new version with plus/assign and install it with a compareAndSet retry loop.
+ *
+ * update - writers only, one op is one successful update, so gc.alloc.rate.norm is
+ *          the number of bytes allocated per successful update, including the failed attempts
+ * publish - writers next to readers doing get on the current snapshot, split with -tg readers,writers,
+ *           gc.alloc.rate.norm is normalized over the reads and writes of the group, so it's not per update
+ *
+ * updates and casFailures are counted per thread, casFailures / updates is the retry rate.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class SnapshotPublish {
+
+    @Param({
+            SharedMaps.HASH_PMAP_SNAPSHOT,
+            SharedMaps.INT_TREE_PMAP_SNAPSHOT,
+            SharedMaps.JIMMUTABLE_HASH_MAP_SNAPSHOT
+    })
+    public String map;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private volatile Integer[] mKeys = null;
+    private volatile SharedMaps.Snapshot<?> mSnapshot = null;
+
+    public static void main(String[] args) throws RunnerException {
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            Options opt = BenchmarkOptions.of(SnapshotPublish.class.getSimpleName() + ".update")
+                    .threads(threads)
+                    .build();
+            results.addAll(new Runner(opt).run());
+
+            if (threads < 2) continue;
+
+            opt = BenchmarkOptions.of(SnapshotPublish.class.getSimpleName() + ".publish")
+                    .threadGroups(threads / 2, threads - threads / 2)
+                    .build();
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(SnapshotPublish.class, results);
+        ContentionReport.print(results);
+        printRetries(results);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long updates;
+        public long casFailures;
+
+        OpStream mStream;
+
+        @Setup(Level.Trial)
+        public void setup(final SnapshotPublish benchmark) {
+            mStream = new OpStream(benchmark.size, 100);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updates = 0;
+            casFailures = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        mKeys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mKeys[i] = Integer.valueOf(i);
+        }
+        mSnapshot = (SharedMaps.Snapshot<?>) SharedMaps.create(map, mKeys);
+    }
+
+    @Benchmark
+    public int update(final Counters counters) {
+        return write(counters);
+    }
+
+    @Benchmark
+    @Group("publish")
+    @GroupThreads(2)
+    public Integer reader(final Counters counters) {
+        final OpStream stream = counters.mStream;
+        return mSnapshot.get(mKeys[stream.keyIndex(stream.next())]);
+    }
+
+    @Benchmark
+    @Group("publish")
+    @GroupThreads(2)
+    public int writer(final Counters counters) {
+        return write(counters);
+    }
+
+    private int write(final Counters counters) {
+        final OpStream stream = counters.mStream;
+        final int keyIndex = stream.keyIndex(stream.next());
+        // Rotate the value, assigning the one already stored would return the same map
+        final Integer value = mKeys[(int) ((keyIndex + counters.updates + 1) % size)];
+
+        final int attempts = mSnapshot.update(mKeys[keyIndex], value);
+        counters.updates++;
+        counters.casFailures += attempts - 1;
+        return attempts;
+    }
+
+    private static void printRetries(final List<RunResult> results) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Benchmark | map | size | threads | CAS failures per update | _B_ per update |\n")
+                .append("| ------ | ------ | ------ | ------ | ------ | ------ |\n");
+
+        for (RunResult r : results) {
+            final Result<?> updates = r.getSecondaryResults().get("updates");
+            final Result<?> casFailures = r.getSecondaryResults().get("casFailures");
+            if (updates == null || casFailures == null || updates.getScore() == 0) continue;
+
+            final String benchmark = r.getParams().getBenchmark();
+            // In the publish group an op is a read or a write, not an update
+            final Double alloc = benchmark.endsWith(".update") ? ScoreReport.allocPerOp(r) : null;
+            sb.append("| ").append(benchmark.substring(benchmark.lastIndexOf('.') + 1))
+                    .append(" | ").append(r.getParams().getParam("map"))
+                    .append(" | ").append(r.getParams().getParam("size"))
+                    .append(" | ").append(r.getParams().getThreads())
+                    .append(" | ").append(String.format(Locale.US, "%.3f", casFailures.getScore() / updates.getScore()))
+                    .append(" | ").append(alloc == null ? "-" : String.format(Locale.US, "%.0f", alloc))
+                    .append(" |\n");
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
@@ -0,0 +1,192 @@
+package com.olekdia.datetime;
+
+import net.time4j.Moment;
+import net.time4j.TemporalType;
+import net.time4j.base.TimeSource;
+import org.joda.time.DateTimeUtils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Coarse grained clock: a ticker thread reads the system clock every {@code resolutionMillis}
+ * and publishes an immutable {@link Snapshot} of the millis, the zone offset and the local epoch day
+ * through a volatile field. Readers pay for one volatile read, no clock call, no zone rules lookup,
+ * at the price of being up to one resolution late.
+ *
+ * The adapters let the date libraries read it: {@link #javaClock()}, {@link #threeTenClock()},
+ * {@link #jodaMillisProvider()} for {@link DateTimeUtils#setCurrentMillisProvider} and
+ * {@link #time4JSource()}. The java.time and ThreeTen clocks carry the fixed offset of the snapshot
+ * as their zone, so {@code now(clock)} doesn't look up the zone rules either.
+ *
+ * {@code now(clock)} calls {@code instant()} and {@code getZone()} one after the other, and each
+ * reads the latest snapshot, so across an offset change the adapters can pair the new millis
+ * with the old offset, an hour off at a DST switch, until the next tick. {@link Snapshot#javaClock()}
+ * and {@link Snapshot#threeTenClock()} are fixed clocks of one snapshot, which always agree.
+ */
+public final class CachedClock implements AutoCloseable {
+
+    public static final class Snapshot {
+        public final long mMillis;
+        public final int mOffsetSeconds;
+        public final long mLocalEpochDay;
+        final java.time.ZoneOffset mJavaOffset;
+        final org.threeten.bp.ZoneOffset mThreeTenOffset;
+        private final java.time.Clock mJavaClock;
+        private final org.threeten.bp.Clock mThreeTenClock;
+
+        Snapshot(final long millis, final java.time.ZoneOffset offset) {
+            mMillis = millis;
+            mOffsetSeconds = offset.getTotalSeconds();
+            mLocalEpochDay = EpochDays.ofEpochMillis(millis + mOffsetSeconds * 1000L);
+            mJavaOffset = offset;
+            mThreeTenOffset = org.threeten.bp.ZoneOffset.ofTotalSeconds(mOffsetSeconds);
+            mJavaClock = java.time.Clock.fixed(java.time.Instant.ofEpochMilli(millis), mJavaOffset);
+            mThreeTenClock = org.threeten.bp.Clock.fixed(org.threeten.bp.Instant.ofEpochMilli(millis), mThreeTenOffset);
+        }
+
+        /**
+         * @return clock stopped at this snapshot, with its offset as the zone
+         */
+        public java.time.Clock javaClock() {
+            return mJavaClock;
+        }
+
+        public org.threeten.bp.Clock threeTenClock() {
+            return mThreeTenClock;
+        }
+    }
+
+    private final ZoneId mZone;
+    private final long mResolutionNanos;
+    private final Thread mTicker;
+
+    private volatile Snapshot mSnapshot;
+    private volatile boolean mRunning = true;
+
+    public CachedClock(final long resolutionMillis) {
+        this(resolutionMillis, ZoneId.systemDefault());
+    }
+
+    public CachedClock(final long resolutionMillis, final ZoneId zone) {
+        mZone = zone;
+        mResolutionNanos = TimeUnit.MILLISECONDS.toNanos(resolutionMillis);
+        tick();
+
+        mTicker = new Thread(() -> {
+            while (mRunning) {
+                LockSupport.parkNanos(mResolutionNanos);
+                tick();
+            }
+        }, "CachedClock");
+        mTicker.setDaemon(true);
+        mTicker.start();
+    }
+
+    private void tick() {
+        final long millis = System.currentTimeMillis();
+        mSnapshot = new Snapshot(millis, mZone.getRules().getOffset(Instant.ofEpochMilli(millis)));
+    }
+
+    public Snapshot snapshot() {
+        return mSnapshot;
+    }
+
+    public long millis() {
+        return mSnapshot.mMillis;
+    }
+
+    public long localEpochDay() {
+        return mSnapshot.mLocalEpochDay;
+    }
+
+    @Override
+    public void close() {
+        mRunning = false;
+        LockSupport.unpark(mTicker);
+    }
+
+    public java.time.Clock javaClock() {
+        return new JavaClock(this, null);
+    }
+
+    public org.threeten.bp.Clock threeTenClock() {
+        return new ThreeTenClock(this, null);
+    }
+
+    public DateTimeUtils.MillisProvider jodaMillisProvider() {
+        return this::millis;
+    }
+
+    public TimeSource<Moment> time4JSource() {
+        return () -> TemporalType.MILLIS_SINCE_UNIX.translate(millis());
+    }
+
+    private static final class JavaClock extends java.time.Clock {
+        private final CachedClock mClock;
+        private final java.time.ZoneId mZone;
+
+        /**
+         * @param zone or null for the offset of the snapshot
+         */
+        JavaClock(final CachedClock clock, final java.time.ZoneId zone) {
+            mClock = clock;
+            mZone = zone;
+        }
+
+        @Override
+        public java.time.ZoneId getZone() {
+            return mZone != null ? mZone : mClock.snapshot().mJavaOffset;
+        }
+
+        @Override
+        public java.time.Clock withZone(final java.time.ZoneId zone) {
+            return new JavaClock(mClock, zone);
+        }
+
+        @Override
+        public long millis() {
+            return mClock.millis();
+        }
+
+        @Override
+        public java.time.Instant instant() {
+            return java.time.Instant.ofEpochMilli(mClock.millis());
+        }
+    }
+
+    private static final class ThreeTenClock extends org.threeten.bp.Clock {
+        private final CachedClock mClock;
+        private final org.threeten.bp.ZoneId mZone;
+
+        /**
+         * @param zone or null for the offset of the snapshot
+         */
+        ThreeTenClock(final CachedClock clock, final org.threeten.bp.ZoneId zone) {
+            mClock = clock;
+            mZone = zone;
+        }
+
+        @Override
+        public org.threeten.bp.ZoneId getZone() {
+            return mZone != null ? mZone : mClock.snapshot().mThreeTenOffset;
+        }
+
+        @Override
+        public org.threeten.bp.Clock withZone(final org.threeten.bp.ZoneId zone) {
+            return new ThreeTenClock(mClock, zone);
+        }
+
+        @Override
+        public long millis() {
+            return mClock.millis();
+        }
+
+        @Override
+        public org.threeten.bp.Instant instant() {
+            return org.threeten.bp.Instant.ofEpochMilli(mClock.millis());
+        }
+    }
+}
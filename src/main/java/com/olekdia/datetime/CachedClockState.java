@@ -0,0 +1,34 @@
+package com.olekdia.datetime;
+
+import net.time4j.ZonalClock;
+import net.time4j.tz.Timezone;
+import org.joda.time.DateTimeUtils;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link CachedClock} with its library adapters, for the benchmarks which read the time from it.
+ * java.time and ThreeTen read the fixed clocks of the current snapshot, so the millis and the offset always agree.
+ * Joda-Time has no clock argument, its {@code now()} reads the global millis provider,
+ * so the provider is set for the trial and restored afterwards.
+ */
+@State(Scope.Benchmark)
+public class CachedClockState {
+
+    public static final long RESOLUTION_MILLIS = 1;
+
+    CachedClock mClock;
+    ZonalClock mTime4JClock;
+
+    @Setup
+    public void setup() {
+        mClock = new CachedClock(RESOLUTION_MILLIS);
+        mTime4JClock = new ZonalClock(mClock.time4JSource(), Timezone.ofSystem());
+        DateTimeUtils.setCurrentMillisProvider(mClock.jodaMillisProvider());
+    }
+
+    @TearDown
+    public void tearDown() {
+        DateTimeUtils.setCurrentMillisSystem();
+        mClock.close();
+    }
+}
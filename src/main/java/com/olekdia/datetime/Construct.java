@@ -15,16 +15,21 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import net.time4j.SystemClock;
 import org.joda.time.DateTimeZone;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -49,13 +54,21 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode({Mode.Throughput})
 public class Construct {
 
+    /**
+     * Repeated for 1, 2, 4, ... cores threads, the system clock and the zone lookups
+     * are shared by all of them, the cached clock is one volatile read
+     */
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(Construct.class.getSimpleName())
-                .forks(1)
-                .build();
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            Options opt = BenchmarkOptions.of(Construct.class)
+                    .threads(threads)
+                    .build();
 
-        new Runner(opt).run();
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(Construct.class, results);
+        ContentionReport.print(results);
     }
 
     @Benchmark
@@ -91,4 +104,77 @@ public class Construct {
     public void javaCalendar(Blackhole blackhole) {
         blackhole.consume(java.util.Calendar.getInstance());
     }
+
+    @Benchmark
+    public void jodaDateTime(Blackhole blackhole) {
+        blackhole.consume(org.joda.time.DateTime.now());
+    }
+
+    @Benchmark
+    public void javaLocalDate(Blackhole blackhole) {
+        blackhole.consume(java.time.LocalDate.now());
+    }
+
+    @Benchmark
+    public void javaLocalDateTime(Blackhole blackhole) {
+        blackhole.consume(java.time.LocalDateTime.now());
+    }
+
+    @Benchmark
+    public void threeTenLocalDate(Blackhole blackhole) {
+        blackhole.consume(org.threeten.bp.LocalDate.now());
+    }
+
+    @Benchmark
+    public void threeTenLocalDateTime(Blackhole blackhole) {
+        blackhole.consume(org.threeten.bp.LocalDateTime.now());
+    }
+
+    @Benchmark
+    public void jodaDateTimeUTCCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(org.joda.time.DateTime.now(DateTimeZone.UTC));
+    }
+
+    @Benchmark
+    public void jodaLocalDateCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(org.joda.time.LocalDate.now());
+    }
+
+    @Benchmark
+    public void javaLocalDateCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(java.time.LocalDate.now(clock.mClock.snapshot().javaClock()));
+    }
+
+    @Benchmark
+    public void javaLocalDateTimeCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(java.time.LocalDateTime.now(clock.mClock.snapshot().javaClock()));
+    }
+
+    @Benchmark
+    public void threeTenLocalDateCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(org.threeten.bp.LocalDate.now(clock.mClock.snapshot().threeTenClock()));
+    }
+
+    @Benchmark
+    public void threeTenLocalDateTimeCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(org.threeten.bp.LocalDateTime.now(clock.mClock.snapshot().threeTenClock()));
+    }
+
+    @Benchmark
+    public void time4JPlainDateCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(clock.mTime4JClock.today());
+    }
+
+    @Benchmark
+    public void time4JPlainTimestampCached(CachedClockState clock, Blackhole blackhole) {
+        blackhole.consume(clock.mTime4JClock.now());
+    }
+
+    /**
+     * The local date is already in the snapshot
+     */
+    @Benchmark
+    public long epochDayCached(CachedClockState clock) {
+        return clock.mClock.localEpochDay();
+    }
 }
\ No newline at end of file
@@ -15,18 +15,23 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import net.time4j.CalendarUnit;
 import net.time4j.SystemClock;
 import org.joda.time.DateTimeZone;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -53,13 +58,21 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode({Mode.Throughput})
 public class ConstructPlusDays {
 
+    /**
+     * Repeated for 1, 2, 4, ... cores threads, the system clock and the zone lookups
+     * are shared by all of them, the cached clock is one volatile read
+     */
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(ConstructPlusDays.class.getSimpleName())
-                .forks(1)
-                .build();
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            Options opt = BenchmarkOptions.of(ConstructPlusDays.class)
+                    .threads(threads)
+                    .build();
 
-        new Runner(opt).run();
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(ConstructPlusDays.class, results);
+        ContentionReport.print(results);
     }
 
     @Benchmark
@@ -125,4 +138,39 @@ public class ConstructPlusDays {
     public int time4JPlainTimestamp() {
         return SystemClock.inLocalView().now().plus(1, CalendarUnit.DAYS).getCalendarDate().getDayOfYear();
     }
+
+    @Benchmark
+    public int jodaDateTimeUTCCached(CachedClockState clock) {
+        return org.joda.time.DateTime.now(DateTimeZone.UTC).plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int jodaLocalDateCached(CachedClockState clock) {
+        return org.joda.time.LocalDate.now().plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int threeTenLocalDateCached(CachedClockState clock) {
+        return org.threeten.bp.LocalDate.now(clock.mClock.snapshot().threeTenClock()).plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int javaLocalDateCached(CachedClockState clock) {
+        return java.time.LocalDate.now(clock.mClock.snapshot().javaClock()).plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int javaLocalDateTimeCached(CachedClockState clock) {
+        return java.time.LocalDateTime.now(clock.mClock.snapshot().javaClock()).plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int time4JPlainDateCached(CachedClockState clock) {
+        return clock.mTime4JClock.today().plus(1, CalendarUnit.DAYS).getDayOfYear();
+    }
+
+    @Benchmark
+    public int epochDayCached(CachedClockState clock) {
+        return EpochDays.dayOfYear(EpochDays.plusDays(clock.mClock.localEpochDay(), 1));
+    }
 }
\ No newline at end of file
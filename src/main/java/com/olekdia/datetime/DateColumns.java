@@ -0,0 +1,526 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.datetime;
+
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.TemporalType;
+import net.time4j.tz.ZonalOffset;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Days;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date columns of {@code size} UTC timestamps, as {@code long[]} epoch millis and as {@code int[]} epoch days.
+ * Every benchmark applies one operation to the whole column and writes the result into a preallocated
+ * output column: plusDays, daysBetween of two columns, and year, month and day of month extraction.
+ *
+ * Library rows convert every element to a date object of java.time, Joda-Time, ThreeTen backport,
+ * Time4J or a UTC {@link Calendar} and back. Calendar has no days between, so it has no row there.
+ * Kernel rows are plain loops over the primitive columns with {@link EpochDays}: the epoch day
+ * ones are straight int additions and subtractions, which C2 auto-vectorizes, the millis ones need
+ * a long division per element, which it doesn't. The same kernels also run split over a fork-join pool
+ * of {@code parallelism} threads.
+ *
+ * Next to the usual scores, main() prints the throughput of every row in millions of elements per second,
+ * which is what matters for columns of millions of timestamps.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class DateColumns {
+
+    private static final int PLUS_DAYS = 30;
+    private static final long MAX_MILLIS = 4_102_444_800_000L; // 2100-01-01
+    private static final int MAX_DAYS_BETWEEN = 5 * 366;
+    private static final int FORK_JOIN_THRESHOLD = 1 << 16;
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private long[] mStartMillis;
+    private long[] mEndMillis;
+    private int[] mStartDays;
+    private int[] mEndDays;
+
+    private long[] mOutMillis;
+    private int[] mOutDays;
+    private int[] mOutYears;
+    private int[] mOutMonths;
+    private int[] mOutDaysOfMonth;
+    private Calendar mUtcCalendar;
+
+    /**
+     * Only the fork-join kernels take this state, main() replaces the parallelism with 1, 2, 4, ... cores
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"1"})
+        public int parallelism;
+
+        ForkJoinPool mPool;
+
+        @Setup
+        public void setup() {
+            mPool = new ForkJoinPool(parallelism);
+        }
+
+        @TearDown
+        public void tearDown() {
+            mPool.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(DateColumns.class)
+                .param("parallelism", ContentionReport.threadCounts().stream()
+                        .map(String::valueOf)
+                        .toArray(String[]::new))
+                .build();
+
+        final Collection<RunResult> results = ResultStore.save(DateColumns.class, new Runner(opt).run());
+        ScoreReport.print(results);
+        printThroughput(results);
+    }
+
+    @Setup
+    public void setup() {
+        mStartMillis = new long[size];
+        mEndMillis = new long[size];
+        mStartDays = new int[size];
+        mEndDays = new int[size];
+
+        final Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            mStartMillis[i] = (long) (random.nextDouble() * MAX_MILLIS);
+            mEndMillis[i] = mStartMillis[i] + (long) (random.nextDouble() * MAX_DAYS_BETWEEN * EpochDays.MILLIS_PER_DAY);
+            mStartDays[i] = (int) EpochDays.ofEpochMillis(mStartMillis[i]);
+            mEndDays[i] = (int) EpochDays.ofEpochMillis(mEndMillis[i]);
+        }
+
+        mOutMillis = new long[size];
+        mOutDays = new int[size];
+        mOutYears = new int[size];
+        mOutMonths = new int[size];
+        mOutDaysOfMonth = new int[size];
+        mUtcCalendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+
+        verifyKernels();
+    }
+
+    /**
+     * The kernels have to produce the same columns as java.time
+     */
+    private void verifyKernels() {
+        final long[] millis = plusDaysJava().clone();
+        Arrays.fill(mOutMillis, 0L);
+        check(Arrays.equals(millis, plusDaysMillisKernel()), "plusDaysMillisKernel");
+        for (int i = 0; i < size; i++) millis[i] = EpochDays.ofEpochMillis(millis[i]);
+        Arrays.fill(mOutDays, 0);
+        final int[] days = plusDaysEpochDayKernel();
+        for (int i = 0; i < size; i++) check(days[i] == millis[i], "plusDaysEpochDayKernel");
+
+        final int[] between = daysBetweenJava().clone();
+        Arrays.fill(mOutDays, 0);
+        check(Arrays.equals(between, daysBetweenMillisKernel()), "daysBetweenMillisKernel");
+        Arrays.fill(mOutDays, 0);
+        check(Arrays.equals(between, daysBetweenEpochDayKernel()), "daysBetweenEpochDayKernel");
+
+        fieldsJava();
+        final int[] years = mOutYears.clone();
+        final int[] months = mOutMonths.clone();
+        final int[] daysOfMonth = mOutDaysOfMonth.clone();
+        for (Runnable kernel : new Runnable[]{this::fieldsMillisKernel, this::fieldsEpochDayKernel}) {
+            // Every output column is cleared, so none can pass with the values of the previous run
+            Arrays.fill(mOutYears, 0);
+            Arrays.fill(mOutMonths, 0);
+            Arrays.fill(mOutDaysOfMonth, 0);
+            kernel.run();
+            check(Arrays.equals(years, mOutYears)
+                    && Arrays.equals(months, mOutMonths)
+                    && Arrays.equals(daysOfMonth, mOutDaysOfMonth), "fields kernel");
+        }
+    }
+
+    private static void check(final boolean matches, final String kernel) {
+        if (!matches) {
+            throw new IllegalStateException(kernel + " differs from java.time");
+        }
+    }
+
+    @Benchmark
+    public long[] plusDaysJava() {
+        final long[] in = mStartMillis;
+        final long[] out = mOutMillis;
+        for (int i = 0; i < in.length; i++) {
+            out[i] = java.time.Instant.ofEpochMilli(in[i]).atOffset(java.time.ZoneOffset.UTC)
+                    .plusDays(PLUS_DAYS).toInstant().toEpochMilli();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public long[] plusDaysThreeTen() {
+        final long[] in = mStartMillis;
+        final long[] out = mOutMillis;
+        for (int i = 0; i < in.length; i++) {
+            out[i] = org.threeten.bp.Instant.ofEpochMilli(in[i]).atOffset(org.threeten.bp.ZoneOffset.UTC)
+                    .plusDays(PLUS_DAYS).toInstant().toEpochMilli();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public long[] plusDaysJoda() {
+        final long[] in = mStartMillis;
+        final long[] out = mOutMillis;
+        for (int i = 0; i < in.length; i++) {
+            out[i] = new org.joda.time.DateTime(in[i], DateTimeZone.UTC).plusDays(PLUS_DAYS).getMillis();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public long[] plusDaysTime4J() {
+        final long[] in = mStartMillis;
+        final long[] out = mOutMillis;
+        for (int i = 0; i < in.length; i++) {
+            out[i] = TemporalType.MILLIS_SINCE_UNIX.from(
+                    TemporalType.MILLIS_SINCE_UNIX.translate(in[i]).toZonalTimestamp(ZonalOffset.UTC)
+                            .plus(PLUS_DAYS, CalendarUnit.DAYS).atUTC()
+            );
+        }
+        return out;
+    }
+
+    @Benchmark
+    public long[] plusDaysCalendar() {
+        final long[] in = mStartMillis;
+        final long[] out = mOutMillis;
+        final Calendar calendar = mUtcCalendar;
+        for (int i = 0; i < in.length; i++) {
+            calendar.setTimeInMillis(in[i]);
+            calendar.add(Calendar.DATE, PLUS_DAYS);
+            out[i] = calendar.getTimeInMillis();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public long[] plusDaysMillisKernel() {
+        plusDaysMillis(mStartMillis, mOutMillis, 0, size);
+        return mOutMillis;
+    }
+
+    @Benchmark
+    public int[] plusDaysEpochDayKernel() {
+        plusDaysEpochDay(mStartDays, mOutDays, 0, size);
+        return mOutDays;
+    }
+
+    @Benchmark
+    public int[] plusDaysForkJoin(final Pool pool) {
+        final int[] in = mStartDays;
+        final int[] out = mOutDays;
+        pool.mPool.invoke(new ColumnTask(0, size, (from, to) -> plusDaysEpochDay(in, out, from, to)));
+        return out;
+    }
+
+    @Benchmark
+    public int[] daysBetweenJava() {
+        final long[] start = mStartMillis;
+        final long[] end = mEndMillis;
+        final int[] out = mOutDays;
+        for (int i = 0; i < start.length; i++) {
+            out[i] = (int) java.time.temporal.ChronoUnit.DAYS.between(
+                    java.time.Instant.ofEpochMilli(start[i]).atOffset(java.time.ZoneOffset.UTC).toLocalDate(),
+                    java.time.Instant.ofEpochMilli(end[i]).atOffset(java.time.ZoneOffset.UTC).toLocalDate()
+            );
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] daysBetweenThreeTen() {
+        final long[] start = mStartMillis;
+        final long[] end = mEndMillis;
+        final int[] out = mOutDays;
+        for (int i = 0; i < start.length; i++) {
+            out[i] = (int) org.threeten.bp.temporal.ChronoUnit.DAYS.between(
+                    org.threeten.bp.Instant.ofEpochMilli(start[i]).atOffset(org.threeten.bp.ZoneOffset.UTC).toLocalDate(),
+                    org.threeten.bp.Instant.ofEpochMilli(end[i]).atOffset(org.threeten.bp.ZoneOffset.UTC).toLocalDate()
+            );
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] daysBetweenJoda() {
+        final long[] start = mStartMillis;
+        final long[] end = mEndMillis;
+        final int[] out = mOutDays;
+        for (int i = 0; i < start.length; i++) {
+            out[i] = Days.daysBetween(
+                    new org.joda.time.LocalDate(start[i], DateTimeZone.UTC),
+                    new org.joda.time.LocalDate(end[i], DateTimeZone.UTC)
+            ).getDays();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int[] daysBetweenTime4J() {
+        final long[] start = mStartMillis;
+        final long[] end = mEndMillis;
+        final int[] out = mOutDays;
+        for (int i = 0; i < start.length; i++) {
+            out[i] = (int) CalendarUnit.DAYS.between(time4JDate(start[i]), time4JDate(end[i]));
+        }
+        return out;
+    }
+
+    private static PlainDate time4JDate(final long millis) {
+        return TemporalType.MILLIS_SINCE_UNIX.translate(millis).toZonalTimestamp(ZonalOffset.UTC).getCalendarDate();
+    }
+
+    @Benchmark
+    public int[] daysBetweenMillisKernel() {
+        daysBetweenMillis(mStartMillis, mEndMillis, mOutDays, 0, size);
+        return mOutDays;
+    }
+
+    @Benchmark
+    public int[] daysBetweenEpochDayKernel() {
+        daysBetweenEpochDay(mStartDays, mEndDays, mOutDays, 0, size);
+        return mOutDays;
+    }
+
+    @Benchmark
+    public int[] daysBetweenForkJoin(final Pool pool) {
+        final int[] start = mStartDays;
+        final int[] end = mEndDays;
+        final int[] out = mOutDays;
+        pool.mPool.invoke(new ColumnTask(0, size, (from, to) -> daysBetweenEpochDay(start, end, out, from, to)));
+        return out;
+    }
+
+    @Benchmark
+    public int[] fieldsJava() {
+        final long[] in = mStartMillis;
+        for (int i = 0; i < in.length; i++) {
+            final java.time.LocalDate date = java.time.Instant.ofEpochMilli(in[i])
+                    .atOffset(java.time.ZoneOffset.UTC).toLocalDate();
+            mOutYears[i] = date.getYear();
+            mOutMonths[i] = date.getMonthValue();
+            mOutDaysOfMonth[i] = date.getDayOfMonth();
+        }
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsThreeTen() {
+        final long[] in = mStartMillis;
+        for (int i = 0; i < in.length; i++) {
+            final org.threeten.bp.LocalDate date = org.threeten.bp.Instant.ofEpochMilli(in[i])
+                    .atOffset(org.threeten.bp.ZoneOffset.UTC).toLocalDate();
+            mOutYears[i] = date.getYear();
+            mOutMonths[i] = date.getMonthValue();
+            mOutDaysOfMonth[i] = date.getDayOfMonth();
+        }
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsJoda() {
+        final long[] in = mStartMillis;
+        for (int i = 0; i < in.length; i++) {
+            final org.joda.time.DateTime date = new org.joda.time.DateTime(in[i], DateTimeZone.UTC);
+            mOutYears[i] = date.getYear();
+            mOutMonths[i] = date.getMonthOfYear();
+            mOutDaysOfMonth[i] = date.getDayOfMonth();
+        }
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsTime4J() {
+        final long[] in = mStartMillis;
+        for (int i = 0; i < in.length; i++) {
+            final PlainDate date = time4JDate(in[i]);
+            mOutYears[i] = date.getYear();
+            mOutMonths[i] = date.getMonth();
+            mOutDaysOfMonth[i] = date.getDayOfMonth();
+        }
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsCalendar() {
+        final long[] in = mStartMillis;
+        final Calendar calendar = mUtcCalendar;
+        for (int i = 0; i < in.length; i++) {
+            calendar.setTimeInMillis(in[i]);
+            mOutYears[i] = calendar.get(Calendar.YEAR);
+            mOutMonths[i] = calendar.get(Calendar.MONTH) + 1;
+            mOutDaysOfMonth[i] = calendar.get(Calendar.DAY_OF_MONTH);
+        }
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsMillisKernel() {
+        fieldsMillis(mStartMillis, mOutYears, mOutMonths, mOutDaysOfMonth, 0, size);
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsEpochDayKernel() {
+        fieldsEpochDay(mStartDays, mOutYears, mOutMonths, mOutDaysOfMonth, 0, size);
+        return mOutYears;
+    }
+
+    @Benchmark
+    public int[] fieldsForkJoin(final Pool pool) {
+        final int[] in = mStartDays;
+        final int[] years = mOutYears;
+        final int[] months = mOutMonths;
+        final int[] daysOfMonth = mOutDaysOfMonth;
+        pool.mPool.invoke(new ColumnTask(0, size, (from, to) -> fieldsEpochDay(in, years, months, daysOfMonth, from, to)));
+        return years;
+    }
+
+    private static void plusDaysMillis(final long[] in, final long[] out, final int from, final int to) {
+        final long plus = PLUS_DAYS * EpochDays.MILLIS_PER_DAY;
+        for (int i = from; i < to; i++) {
+            out[i] = in[i] + plus;
+        }
+    }
+
+    private static void plusDaysEpochDay(final int[] in, final int[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = in[i] + PLUS_DAYS;
+        }
+    }
+
+    private static void daysBetweenMillis(final long[] start, final long[] end, final int[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = (int) (EpochDays.ofEpochMillis(end[i]) - EpochDays.ofEpochMillis(start[i]));
+        }
+    }
+
+    private static void daysBetweenEpochDay(final int[] start, final int[] end, final int[] out, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = end[i] - start[i];
+        }
+    }
+
+    private static void fieldsMillis(
+            final long[] in,
+            final int[] years,
+            final int[] months,
+            final int[] daysOfMonth,
+            final int from,
+            final int to
+    ) {
+        for (int i = from; i < to; i++) {
+            final int fields = EpochDays.toFields(EpochDays.ofEpochMillis(in[i]));
+            years[i] = EpochDays.year(fields);
+            months[i] = EpochDays.month(fields);
+            daysOfMonth[i] = EpochDays.dayOfMonth(fields);
+        }
+    }
+
+    private static void fieldsEpochDay(
+            final int[] in,
+            final int[] years,
+            final int[] months,
+            final int[] daysOfMonth,
+            final int from,
+            final int to
+    ) {
+        for (int i = from; i < to; i++) {
+            final int fields = EpochDays.toFields(in[i]);
+            years[i] = EpochDays.year(fields);
+            months[i] = EpochDays.month(fields);
+            daysOfMonth[i] = EpochDays.dayOfMonth(fields);
+        }
+    }
+
+    interface RangeKernel {
+        void apply(int from, int to);
+    }
+
+    /**
+     * Splits the column in halves, down to {@link #FORK_JOIN_THRESHOLD} elements, which go to the kernel
+     */
+    static class ColumnTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int mFrom;
+        private final int mTo;
+        private final RangeKernel mKernel;
+
+        ColumnTask(final int from, final int to, final RangeKernel kernel) {
+            mFrom = from;
+            mTo = to;
+            mKernel = kernel;
+        }
+
+        @Override
+        protected void compute() {
+            if (mTo - mFrom <= FORK_JOIN_THRESHOLD) {
+                mKernel.apply(mFrom, mTo);
+                return;
+            }
+
+            final int middle = (mFrom + mTo) >>> 1;
+            invokeAll(new ColumnTask(mFrom, middle, mKernel), new ColumnTask(middle, mTo, mKernel));
+        }
+    }
+
+    private static void printThroughput(final Collection<RunResult> results) {
+        if (results.isEmpty()) return;
+
+        final StringBuilder sb = new StringBuilder()
+                .append("| Benchmark | Throughput _M elements/s_ |\n")
+                .append("| ------ | ------ |\n");
+        for (RunResult r : results) {
+            final double elements = Integer.parseInt(r.getParams().getParam("size"));
+            final double seconds = r.getPrimaryResult().getScore() / 1e3;
+            sb.append("| ").append(ScoreReport.nameOf(r))
+                    .append(" | ").append(String.format(Locale.US, "%.1f", elements / seconds / 1e6))
+                    .append(" |\n");
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
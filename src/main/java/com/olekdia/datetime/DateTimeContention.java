@@ -0,0 +1,324 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.datetime;
+
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Days;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construct, PlusDays, DaysBetween and GetFields from 1 thread up to all cores.
+ *
+ * The immutable java.time and Joda types are shared by all the threads. A mutable {@link Calendar}
+ * can't be, like the {@code mJavaCalendarTmp} of {@link DaysBetween}, so it comes in four ways:
+ * confined to the thread by a JMH thread state, from a {@link ThreadLocal}, borrowed from a pool,
+ * and a single shared instance under a lock, which is what a data race fixed the quick way looks like.
+ *
+ * The zone rows resolve ids, round robin over {@link #ZONE_IDS}, through the caches of
+ * {@link ZoneId#of}, {@link DateTimeZone#forID} and {@link TimeZone#getTimeZone}, which are shared by all threads.
+ *
+ * main() repeats the run for 1, 2, 4, ... cores threads, the throughput is the sum over the threads.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput})
+public class DateTimeContention {
+
+    static final String[] ZONE_IDS = {
+            "Europe/Kiev", "Europe/London", "America/New_York", "America/Los_Angeles",
+            "Asia/Tokyo", "Asia/Kolkata", "Australia/Sydney", "UTC"
+    };
+
+    private static final int MONTHS_BETWEEN = 15;
+
+    private static final ThreadLocal<Calendar> CALENDAR = ThreadLocal.withInitial(Calendar::getInstance);
+
+    private java.time.LocalDate mJavaLocalDateStart;
+    private java.time.LocalDate mJavaLocalDateEnd;
+    private java.time.LocalDateTime mJavaLocalDateTime;
+    private org.joda.time.LocalDate mJodaLocalDateStart;
+    private org.joda.time.LocalDate mJodaLocalDateEnd;
+    private org.joda.time.DateTime mJodaDateTime;
+    private long mEpochDayStart;
+    private long mEpochDayEnd;
+    private long mMillisStart;
+    private long mMillisEnd;
+
+    private CalendarPool mCalendarPool;
+    private Calendar mSharedCalendar;
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        Calendar mCalendar;
+        int mZoneCursor;
+
+        @Setup
+        public void setup() {
+            mCalendar = Calendar.getInstance();
+        }
+
+        String nextZoneId() {
+            final String id = ZONE_IDS[mZoneCursor];
+            mZoneCursor = (mZoneCursor + 1) % ZONE_IDS.length;
+            return id;
+        }
+    }
+
+    /**
+     * Calendars are taken from a queue and given back after use, a new one is made when it's empty
+     */
+    static final class CalendarPool {
+        private final ArrayBlockingQueue<Calendar> mCalendars;
+
+        CalendarPool(final int capacity) {
+            mCalendars = new ArrayBlockingQueue<>(capacity);
+        }
+
+        Calendar borrow() {
+            final Calendar calendar = mCalendars.poll();
+            return calendar != null ? calendar : Calendar.getInstance();
+        }
+
+        void release(final Calendar calendar) {
+            mCalendars.offer(calendar);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            Options opt = BenchmarkOptions.of(DateTimeContention.class)
+                    .threads(threads)
+                    .build();
+
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(DateTimeContention.class, results);
+        ContentionReport.print(results);
+    }
+
+    @Setup
+    public void setup() {
+        mJavaLocalDateStart = java.time.LocalDate.now();
+        mJavaLocalDateEnd = mJavaLocalDateStart.plusMonths(MONTHS_BETWEEN);
+        mJavaLocalDateTime = mJavaLocalDateStart.atTime(10, 30, 45);
+        mJodaLocalDateStart = org.joda.time.LocalDate.now();
+        mJodaLocalDateEnd = mJodaLocalDateStart.plusMonths(MONTHS_BETWEEN);
+        mJodaDateTime = mJodaLocalDateStart.toDateTimeAtStartOfDay();
+        mEpochDayStart = mJavaLocalDateStart.toEpochDay();
+        mEpochDayEnd = mJavaLocalDateEnd.toEpochDay();
+
+        final Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        mMillisStart = calendar.getTimeInMillis();
+        calendar.add(Calendar.MONTH, MONTHS_BETWEEN);
+        mMillisEnd = calendar.getTimeInMillis();
+
+        mCalendarPool = new CalendarPool(Runtime.getRuntime().availableProcessors());
+        mSharedCalendar = Calendar.getInstance();
+    }
+
+    @Benchmark
+    public Object constructJavaLocalDate() {
+        return java.time.LocalDate.now();
+    }
+
+    @Benchmark
+    public Object constructJavaLocalDateCached(final CachedClockState clock) {
+        return java.time.LocalDate.now(clock.mClock.snapshot().javaClock());
+    }
+
+    @Benchmark
+    public Object constructJodaDateTime() {
+        return org.joda.time.DateTime.now();
+    }
+
+    @Benchmark
+    public Object constructCalendar() {
+        return Calendar.getInstance();
+    }
+
+    @Benchmark
+    public int plusDaysJavaLocalDate() {
+        return mJavaLocalDateStart.plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int plusDaysJodaLocalDate() {
+        return mJodaLocalDateStart.plusDays(1).getDayOfYear();
+    }
+
+    @Benchmark
+    public int plusDaysEpochDay() {
+        return EpochDays.dayOfYear(EpochDays.plusDays(mEpochDayStart, 1));
+    }
+
+    @Benchmark
+    public int plusDaysCalendarThreadState(final ThreadState state) {
+        return plusDays(state.mCalendar);
+    }
+
+    @Benchmark
+    public int plusDaysCalendarThreadLocal() {
+        return plusDays(CALENDAR.get());
+    }
+
+    @Benchmark
+    public int plusDaysCalendarPooled() {
+        final Calendar calendar = mCalendarPool.borrow();
+        try {
+            return plusDays(calendar);
+        } finally {
+            mCalendarPool.release(calendar);
+        }
+    }
+
+    @Benchmark
+    public int plusDaysCalendarSynchronized() {
+        synchronized (mSharedCalendar) {
+            return plusDays(mSharedCalendar);
+        }
+    }
+
+    private int plusDays(final Calendar calendar) {
+        calendar.setTimeInMillis(mMillisStart);
+        calendar.add(Calendar.DATE, 1);
+        return calendar.get(Calendar.DAY_OF_YEAR);
+    }
+
+    @Benchmark
+    public long daysBetweenJavaLocalDate() {
+        return java.time.temporal.ChronoUnit.DAYS.between(mJavaLocalDateStart, mJavaLocalDateEnd);
+    }
+
+    @Benchmark
+    public int daysBetweenJodaLocalDate() {
+        return Days.daysBetween(mJodaLocalDateStart, mJodaLocalDateEnd).getDays();
+    }
+
+    @Benchmark
+    public long daysBetweenEpochDay() {
+        return EpochDays.daysBetween(mEpochDayStart, mEpochDayEnd);
+    }
+
+    @Benchmark
+    public int daysBetweenCalendarThreadState(final ThreadState state) {
+        return DaysBetween.numDaysBetween(state.mCalendar, mMillisStart, mMillisEnd);
+    }
+
+    @Benchmark
+    public int daysBetweenCalendarThreadLocal() {
+        return DaysBetween.numDaysBetween(CALENDAR.get(), mMillisStart, mMillisEnd);
+    }
+
+    @Benchmark
+    public int daysBetweenCalendarPooled() {
+        final Calendar calendar = mCalendarPool.borrow();
+        try {
+            return DaysBetween.numDaysBetween(calendar, mMillisStart, mMillisEnd);
+        } finally {
+            mCalendarPool.release(calendar);
+        }
+    }
+
+    @Benchmark
+    public int daysBetweenCalendarSynchronized() {
+        synchronized (mSharedCalendar) {
+            return DaysBetween.numDaysBetween(mSharedCalendar, mMillisStart, mMillisEnd);
+        }
+    }
+
+    @Benchmark
+    public long getFieldsJavaLocalDateTime() {
+        final java.time.LocalDateTime t = mJavaLocalDateTime;
+        return t.getYear() + t.getMonthValue() + t.getDayOfMonth() + t.getHour() + t.getMinute() + t.getSecond();
+    }
+
+    @Benchmark
+    public long getFieldsJodaDateTime() {
+        final org.joda.time.DateTime t = mJodaDateTime;
+        return t.getYear() + t.getMonthOfYear() + t.getDayOfMonth()
+                + t.getHourOfDay() + t.getMinuteOfHour() + t.getSecondOfMinute();
+    }
+
+    @Benchmark
+    public long getFieldsCalendarThreadState(final ThreadState state) {
+        return getFields(state.mCalendar);
+    }
+
+    @Benchmark
+    public long getFieldsCalendarThreadLocal() {
+        return getFields(CALENDAR.get());
+    }
+
+    @Benchmark
+    public long getFieldsCalendarPooled() {
+        final Calendar calendar = mCalendarPool.borrow();
+        try {
+            return getFields(calendar);
+        } finally {
+            mCalendarPool.release(calendar);
+        }
+    }
+
+    @Benchmark
+    public long getFieldsCalendarSynchronized() {
+        synchronized (mSharedCalendar) {
+            return getFields(mSharedCalendar);
+        }
+    }
+
+    /**
+     * A Calendar caches the computed fields, so every op sets the time again, as a real caller would
+     */
+    private long getFields(final Calendar calendar) {
+        calendar.setTimeInMillis(mMillisStart);
+        return calendar.get(Calendar.YEAR) + calendar.get(Calendar.MONTH) + calendar.get(Calendar.DAY_OF_MONTH)
+                + calendar.get(Calendar.HOUR_OF_DAY) + calendar.get(Calendar.MINUTE) + calendar.get(Calendar.SECOND);
+    }
+
+    @Benchmark
+    public Object zoneIdOf(final ThreadState state) {
+        return ZoneId.of(state.nextZoneId());
+    }
+
+    @Benchmark
+    public Object jodaDateTimeZoneForID(final ThreadState state) {
+        return DateTimeZone.forID(state.nextZoneId());
+    }
+
+    @Benchmark
+    public Object timeZoneGetTimeZone(final ThreadState state) {
+        return TimeZone.getTimeZone(state.nextZoneId());
+    }
+}
\ No newline at end of file
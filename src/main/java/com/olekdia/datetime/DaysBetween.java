@@ -15,6 +15,9 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import net.time4j.CalendarUnit;
 import net.time4j.PlainDate;
 import net.time4j.SystemClock;
@@ -24,7 +27,6 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Calendar;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +77,8 @@ public class DaysBetween {
     private java.time.ZonedDateTime mJavaZoneDateTimeEnd;
     private java.time.LocalDate mJavaLocalDateStart;
     private java.time.LocalDate mJavaLocalDateEnd;
+    private long mEpochDayStart;
+    private long mEpochDayEnd;
     private long mJavaCalendarStart;
     private long mJavaCalendarEnd;
     private Calendar mJavaCalendarTmp;
@@ -86,12 +90,9 @@ public class DaysBetween {
     private final static int MONTHS_BETWEEN = 15;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(DaysBetween.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(DaysBetween.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(DaysBetween.class, new Runner(opt).run()));
     }
 
     @Setup
@@ -124,6 +125,12 @@ public class DaysBetween {
                 .withHour(0).withMinute(0).withSecond(0).withNano(0);
         mJavaZoneDateTimeEnd = mJavaZoneDateTimeStart.plusMonths(MONTHS_BETWEEN);
 
+        mEpochDayStart = mJavaLocalDateStart.toEpochDay();
+        mEpochDayEnd = EpochDays.plusMonths(mEpochDayStart, MONTHS_BETWEEN);
+        if (epochDay() != javaLocalDate()) {
+            throw new IllegalStateException("EpochDays.daysBetween differs from java.time");
+        }
+
         mJavaCalendarTmp = Calendar.getInstance();
         mJavaCalendarTmp.set(Calendar.HOUR_OF_DAY, 0);
         mJavaCalendarTmp.set(Calendar.MINUTE, 0);
@@ -213,7 +220,7 @@ public class DaysBetween {
         return numDaysBetween(mJavaCalendarTmp, mJavaCalendarStart, mJavaCalendarEnd);
     }
 
-    private static int numDaysBetween(final Calendar c, final long fromTime, final long toTime) {
+    static int numDaysBetween(final Calendar c, final long fromTime, final long toTime) {
         int result = 0;
         if (toTime <= fromTime) {
             return result;
@@ -242,4 +249,9 @@ public class DaysBetween {
     public long time4JPlainTimestamp() {
         return net.time4j.CalendarUnit.DAYS.between(m4JPlainTimestampStart, m4JPlainTimestampEnd);
     }
+
+    @Benchmark
+    public long epochDay() {
+        return EpochDays.daysBetween(mEpochDayStart, mEpochDayEnd);
+    }
 }
\ No newline at end of file
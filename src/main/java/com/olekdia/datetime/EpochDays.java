@@ -0,0 +1,160 @@
+package com.olekdia.datetime;
+
+/**
+ * ISO calendar arithmetic on primitive epoch days, the same count of days since 1970-01-01
+ * as {@link java.time.LocalDate#toEpochDay()}. Nothing is allocated: dates are {@code long} days,
+ * and the fields of a date come back packed in a single {@code int}, see {@link #toFields(long)}.
+ *
+ * The conversions are the Euclidean affine functions of Neri and Schneider
+ * ("Euclidean affine functions and their application to calendar algorithms", 2022):
+ * the year is shifted to start in March, so the leap day is its last day, and every division
+ * by a month or a year length becomes a multiplication and a shift. The days are shifted
+ * by {@link #ERAS_SHIFT} eras of 400 years first, to work on non negative numbers only.
+ *
+ * Packed fields keep the year in the high bits, so years are limited to ±4 000 000.
+ * {@link EpochDaysCheck} verifies every method against {@code java.time}.
+ */
+public final class EpochDays {
+
+    public static final int MONDAY = 1;
+    public static final int SUNDAY = 7;
+
+    public static final int DAYS_PER_WEEK = 7;
+    public static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final int DAYS_PER_ERA = 146_097;
+    private static final long ERAS_SHIFT = 12_000;
+    private static final long YEARS_SHIFT = ERAS_SHIFT * 400;
+    // From 0000-03-01, the start of an era, to 1970-01-01, plus the eras shift
+    private static final long DAYS_SHIFT = 719_468 + ERAS_SHIFT * DAYS_PER_ERA;
+    private static final int JANUARY_FROM_MARCH = 306; // day of the March based year
+
+    private static final int YEAR_SHIFT = 9;
+    private static final int MONTH_SHIFT = 5;
+    private static final int MONTH_MASK = 0xF;
+    private static final int DAY_MASK = 0x1F;
+
+    private EpochDays() {
+    }
+
+    public static long of(final int year, final int month, final int dayOfMonth) {
+        final boolean janOrFeb = month <= 2;
+        final long y = year + YEARS_SHIFT - (janOrFeb ? 1 : 0);
+        final int m = janOrFeb ? month + 12 : month;
+        final long century = y / 100;
+        final long dayOfYearStart = 1461 * y / 4 - century + century / 4;
+        final int dayOfMonthStart = (979 * m - 2919) / 32;
+        return dayOfYearStart + dayOfMonthStart + dayOfMonth - 1 - DAYS_SHIFT;
+    }
+
+    /**
+     * @return year, month and day of month packed in one int, read them back with
+     * {@link #year(int)}, {@link #month(int)} and {@link #dayOfMonth(int)}
+     */
+    public static int toFields(final long epochDay) {
+        final long n = 4 * (epochDay + DAYS_SHIFT) + 3;
+        final long century = n / DAYS_PER_ERA;
+        final long yearAndDay = 2_939_745L * ((n % DAYS_PER_ERA) | 3);
+        // Day of the March based year, 0 is March 1
+        final int dayOfYear = (int) ((yearAndDay & 0xFFFF_FFFFL) / 11_758_980);
+        final int monthAndDay = 2141 * dayOfYear + 197_913;
+        final int month = monthAndDay >>> 16;
+        final int dayOfMonth = (monthAndDay & 0xFFFF) / 2141 + 1;
+
+        final boolean janOrFeb = dayOfYear >= JANUARY_FROM_MARCH;
+        final int year = (int) (100 * century + (yearAndDay >>> 32) - YEARS_SHIFT) + (janOrFeb ? 1 : 0);
+        return year << YEAR_SHIFT | (janOrFeb ? month - 12 : month) << MONTH_SHIFT | dayOfMonth;
+    }
+
+    public static int year(final int fields) {
+        return fields >> YEAR_SHIFT;
+    }
+
+    public static int month(final int fields) {
+        return (fields >>> MONTH_SHIFT) & MONTH_MASK;
+    }
+
+    public static int dayOfMonth(final int fields) {
+        return fields & DAY_MASK;
+    }
+
+    /**
+     * @return ISO day of week, from {@link #MONDAY} 1 to {@link #SUNDAY} 7
+     */
+    public static int dayOfWeek(final long epochDay) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(epochDay + 3, DAYS_PER_WEEK) + 1;
+    }
+
+    /**
+     * Counted in the March based year of {@link #toFields(long)}, so it takes one conversion
+     */
+    public static int dayOfYear(final long epochDay) {
+        final long n = 4 * (epochDay + DAYS_SHIFT) + 3;
+        final long century = n / DAYS_PER_ERA;
+        final long yearAndDay = 2_939_745L * ((n % DAYS_PER_ERA) | 3);
+        final int dayOfYear = (int) ((yearAndDay & 0xFFFF_FFFFL) / 11_758_980);
+        if (dayOfYear >= JANUARY_FROM_MARCH) return dayOfYear - JANUARY_FROM_MARCH + 1;
+
+        // March 1 is the 60th day, or the 61st one of a leap year
+        final int year = (int) (100 * century + (yearAndDay >>> 32) - YEARS_SHIFT);
+        return dayOfYear + (isLeapYear(year) ? 61 : 60);
+    }
+
+    public static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(final int year, final int month) {
+        if (month == 2) return isLeapYear(year) ? 29 : 28;
+        // 31 for odd months up to July, for even ones from August
+        return 30 + ((month + (month >> 3)) & 1);
+    }
+
+    public static long plusDays(final long epochDay, final long days) {
+        return epochDay + days;
+    }
+
+    public static long plusWeeks(final long epochDay, final long weeks) {
+        return epochDay + weeks * DAYS_PER_WEEK;
+    }
+
+    /**
+     * Like {@link java.time.LocalDate#plusMonths(long)}, the day of month is clamped
+     * to the length of the resulting month: Jan 31 plus one month is Feb 28 or 29
+     */
+    public static long plusMonths(final long epochDay, final long months) {
+        final int fields = toFields(epochDay);
+        final long monthCount = year(fields) * 12L + month(fields) - 1 + months;
+        final int year = (int) Math.floorDiv(monthCount, 12);
+        final int month = (int) Math.floorMod(monthCount, 12) + 1;
+        return of(year, month, Math.min(dayOfMonth(fields), lengthOfMonth(year, month)));
+    }
+
+    /**
+     * Same as {@link java.time.temporal.TemporalAdjusters#previous}: the closest day
+     * before the given one, which falls on {@code dayOfWeek}
+     */
+    public static long previous(final long epochDay, final int dayOfWeek) {
+        return epochDay - ((dayOfWeek(epochDay) - dayOfWeek + 6) % DAYS_PER_WEEK + 1);
+    }
+
+    public static long daysBetween(final long startEpochDay, final long endEpochDay) {
+        return endEpochDay - startEpochDay;
+    }
+
+    /**
+     * Whole weeks, rounded towards zero like {@code ChronoUnit.WEEKS.between}
+     */
+    public static long weeksBetween(final long startEpochDay, final long endEpochDay) {
+        return (endEpochDay - startEpochDay) / DAYS_PER_WEEK;
+    }
+
+    public static long ofEpochMillis(final long epochMillis) {
+        return Math.floorDiv(epochMillis, MILLIS_PER_DAY);
+    }
+
+    public static int millisOfDay(final long epochMillis) {
+        return (int) Math.floorMod(epochMillis, MILLIS_PER_DAY);
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.datetime;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Random;
+
+/**
+ * Walks {@link EpochDays} against {@code java.time}: every day of years -9999..9999 for the
+ * conversions, every day of 1900..2100 for month arithmetic and day of week adjusting,
+ * and random pairs of days for the differences. Stops at the first mismatch.
+ */
+public class EpochDaysCheck {
+
+    private static final int MONTHS_RANGE = 30;
+    private static final int PAIRS = 1_000_000;
+
+    public static void main(String[] args) {
+        long checked = 0;
+
+        final long first = LocalDate.of(-9999, 1, 1).toEpochDay();
+        final long last = LocalDate.of(9999, 12, 31).toEpochDay();
+        for (long day = first; day <= last; day++) {
+            final LocalDate date = LocalDate.ofEpochDay(day);
+            final int fields = EpochDays.toFields(day);
+            check(EpochDays.year(fields) == date.getYear()
+                    && EpochDays.month(fields) == date.getMonthValue()
+                    && EpochDays.dayOfMonth(fields) == date.getDayOfMonth(), "toFields", date);
+            check(EpochDays.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth()) == day, "of", date);
+            check(EpochDays.dayOfWeek(day) == date.getDayOfWeek().getValue(), "dayOfWeek", date);
+            check(EpochDays.dayOfYear(day) == date.getDayOfYear(), "dayOfYear", date);
+            check(EpochDays.lengthOfMonth(date.getYear(), date.getMonthValue()) == date.lengthOfMonth(),
+                    "lengthOfMonth", date);
+            checked++;
+        }
+
+        final long from = LocalDate.of(1900, 1, 1).toEpochDay();
+        final long to = LocalDate.of(2100, 12, 31).toEpochDay();
+        for (long day = from; day <= to; day++) {
+            final LocalDate date = LocalDate.ofEpochDay(day);
+            for (int months = -MONTHS_RANGE; months <= MONTHS_RANGE; months++) {
+                check(EpochDays.plusMonths(day, months) == date.plusMonths(months).toEpochDay(),
+                        "plusMonths " + months, date);
+            }
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                check(EpochDays.previous(day, dayOfWeek.getValue())
+                                == date.with(TemporalAdjusters.previous(dayOfWeek)).toEpochDay(),
+                        "previous " + dayOfWeek, date);
+            }
+            check(EpochDays.plusWeeks(day, 3) == date.plusWeeks(3).toEpochDay(), "plusWeeks", date);
+            checked++;
+        }
+
+        final Random random = new Random(42);
+        for (int i = 0; i < PAIRS; i++) {
+            final LocalDate start = LocalDate.ofEpochDay(from + random.nextInt((int) (to - from)));
+            final LocalDate end = LocalDate.ofEpochDay(from + random.nextInt((int) (to - from)));
+            check(EpochDays.daysBetween(start.toEpochDay(), end.toEpochDay())
+                    == ChronoUnit.DAYS.between(start, end), "daysBetween " + end, start);
+            check(EpochDays.weeksBetween(start.toEpochDay(), end.toEpochDay())
+                    == ChronoUnit.WEEKS.between(start, end), "weeksBetween " + end, start);
+            checked++;
+        }
+
+        System.out.println("EpochDays matches java.time, " + checked + " checks");
+    }
+
+    private static void check(final boolean matches, final String method, final LocalDate date) {
+        if (!matches) {
+            throw new IllegalStateException("EpochDays." + method + " differs from java.time for " + date);
+        }
+    }
+}
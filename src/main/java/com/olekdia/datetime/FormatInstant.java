@@ -0,0 +1,148 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.datetime;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import net.time4j.Moment;
+import net.time4j.TemporalType;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of an instant as an ISO-8601 UTC timestamp, like in JSON or a log line, by every library,
+ * against {@link IsoCodec}. The libraries start from their own instant type and end with a String,
+ * the codec rows write into a reused {@code byte[]} and {@code StringBuilder}, and into a new String
+ * for the same output as the libraries.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput})
+public class FormatInstant {
+
+    static final long MILLIS = 1_560_594_645_123L;
+    static final String TEXT = "2019-06-15T10:30:45.123Z";
+    static final String SIMPLE_DATE_FORMAT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+    static final String TIME4J_PATTERN = "uuuu-MM-dd'T'HH:mm:ss.SSSX";
+
+    private static final ThreadLocal<SimpleDateFormat> SIMPLE_DATE_FORMAT = ThreadLocal.withInitial(() -> {
+        final SimpleDateFormat format = new SimpleDateFormat(SIMPLE_DATE_FORMAT_PATTERN, Locale.ROOT);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format;
+    });
+
+    private long mMillis;
+    private java.time.Instant mJavaInstant;
+    private org.threeten.bp.Instant mThreeTenInstant;
+    private org.joda.time.Instant mJodaInstant;
+    private Date mDate;
+    private Moment mMoment;
+
+    private DateTimeFormatter mJodaFormatter;
+    private ChronoFormatter<Moment> mTime4JFormatter;
+
+    private final byte[] mBytes = new byte[IsoCodec.LENGTH];
+    private final StringBuilder mBuilder = new StringBuilder(IsoCodec.LENGTH);
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(FormatInstant.class).build();
+
+        ScoreReport.print(ResultStore.save(FormatInstant.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        // Not final, so the codec rows can't be folded from the constant
+        mMillis = MILLIS;
+        mJavaInstant = java.time.Instant.ofEpochMilli(MILLIS);
+        mThreeTenInstant = org.threeten.bp.Instant.ofEpochMilli(MILLIS);
+        mJodaInstant = new org.joda.time.Instant(MILLIS);
+        mDate = new Date(MILLIS);
+        mMoment = TemporalType.MILLIS_SINCE_UNIX.translate(MILLIS);
+
+        mJodaFormatter = ISODateTimeFormat.dateTime().withZoneUTC();
+        mTime4JFormatter = ChronoFormatter.ofMomentPattern(TIME4J_PATTERN, PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+
+        for (String text : new String[]{
+                javaFormatter(), threeTenFormatter(), jodaIsoFormat(), simpleDateFormatThreadLocal(),
+                time4JFormatter(), codecString(), codecStringBuilder().toString(),
+                new String(codecBytes(), StandardCharsets.US_ASCII)
+        }) {
+            if (!TEXT.equals(text)) {
+                throw new IllegalStateException("Formatted " + text + " instead of " + TEXT);
+            }
+        }
+    }
+
+    @Benchmark
+    public String javaFormatter() {
+        return java.time.format.DateTimeFormatter.ISO_INSTANT.format(mJavaInstant);
+    }
+
+    @Benchmark
+    public String threeTenFormatter() {
+        return org.threeten.bp.format.DateTimeFormatter.ISO_INSTANT.format(mThreeTenInstant);
+    }
+
+    @Benchmark
+    public String jodaIsoFormat() {
+        return mJodaFormatter.print(mJodaInstant);
+    }
+
+    @Benchmark
+    public String simpleDateFormatThreadLocal() {
+        return SIMPLE_DATE_FORMAT.get().format(mDate);
+    }
+
+    @Benchmark
+    public String time4JFormatter() {
+        return mTime4JFormatter.format(mMoment);
+    }
+
+    @Benchmark
+    public byte[] codecBytes() {
+        IsoCodec.format(mMillis, mBytes, 0);
+        return mBytes;
+    }
+
+    @Benchmark
+    public StringBuilder codecStringBuilder() {
+        mBuilder.setLength(0);
+        return IsoCodec.format(mMillis, mBuilder);
+    }
+
+    @Benchmark
+    public String codecString() {
+        return IsoCodec.format(mMillis, new StringBuilder(IsoCodec.LENGTH)).toString();
+    }
+}
@@ -15,6 +15,9 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import net.time4j.PlainTimestamp;
 import net.time4j.SystemClock;
 import org.joda.time.DateTimeZone;
@@ -23,7 +26,6 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.threeten.bp.ZoneOffset;
 
 import java.util.Calendar;
@@ -60,14 +62,12 @@ public class GetFields {
     private java.time.ZonedDateTime mJavaZoneDateTime;
     private Calendar mJavaCalendar;
     private PlainTimestamp mTime4JPlainTimestamp;
+    private long mEpochMillis;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(GetFields.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(GetFields.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(GetFields.class, new Runner(opt).run()));
     }
 
     @Setup
@@ -93,6 +93,14 @@ public class GetFields {
         mJavaCalendar.set(Calendar.MILLISECOND, 0);
 
         mTime4JPlainTimestamp = SystemClock.inLocalView().now();
+
+        // Local date and time as millis, the way a billing record would keep them
+        mEpochMillis = mJavaLocalDateTime.toInstant(java.time.ZoneOffset.UTC).toEpochMilli();
+        final java.time.LocalDateTime t = mJavaLocalDateTime;
+        if (epochMillis() != t.getYear() + t.getMonthValue() + t.getDayOfMonth()
+                + t.getHour() + t.getMinute() + t.getSecond() + t.getNano() / 1_000_000) {
+            throw new IllegalStateException("EpochDays.toFields differs from java.time");
+        }
     }
 
     @Benchmark
@@ -235,4 +243,23 @@ public class GetFields {
         total += mTime4JPlainTimestamp.getNanosecond();
         return total;
     }
+
+    /**
+     * Date fields come from one conversion, the time of day is plain division
+     */
+    @Benchmark
+    public long epochMillis() {
+        final int fields = EpochDays.toFields(EpochDays.ofEpochMillis(mEpochMillis));
+        final int millisOfDay = EpochDays.millisOfDay(mEpochMillis);
+
+        long total = 0;
+        total += EpochDays.year(fields);
+        total += EpochDays.month(fields);
+        total += EpochDays.dayOfMonth(fields);
+        total += millisOfDay / 3_600_000;
+        total += millisOfDay / 60_000 % 60;
+        total += millisOfDay / 1000 % 60;
+        total += millisOfDay % 1000;
+        return total;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.olekdia.datetime;
+
+/**
+ * ISO-8601 instants in UTC, {@code 2019-06-15T10:30:45.123Z}, written and read straight
+ * from {@code byte[]} (ASCII, as in JSON or a log line) and {@link CharSequence},
+ * to and from epoch millis. No String, no date object, nothing is allocated on the way,
+ * the calendar part goes through {@link EpochDays}.
+ *
+ * Writing always gives the {@link #LENGTH} chars form: 4 digit year and millis,
+ * so only years 0000..9999 are written right.
+ * Reading also takes no fraction or one of 1 to 9 digits, which is truncated to millis,
+ * and an offset {@code +HH:MM} or {@code -HH:MM} in place of {@code Z}.
+ * Malformed text throws {@link IllegalArgumentException}.
+ */
+public final class IsoCodec {
+
+    public static final int LENGTH = 24;
+
+    private static final int MILLIS_PER_SECOND = 1000;
+    private static final int MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final int MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+
+    private IsoCodec() {
+    }
+
+    /**
+     * @return the index after the last written byte
+     */
+    public static int format(final long epochMillis, final byte[] dst, final int offset) {
+        final int fields = EpochDays.toFields(EpochDays.ofEpochMillis(epochMillis));
+        final int millisOfDay = EpochDays.millisOfDay(epochMillis);
+
+        int i = offset;
+        i = writeDigits(dst, i, EpochDays.year(fields), 4);
+        dst[i++] = '-';
+        i = writeDigits(dst, i, EpochDays.month(fields), 2);
+        dst[i++] = '-';
+        i = writeDigits(dst, i, EpochDays.dayOfMonth(fields), 2);
+        dst[i++] = 'T';
+        i = writeDigits(dst, i, millisOfDay / MILLIS_PER_HOUR, 2);
+        dst[i++] = ':';
+        i = writeDigits(dst, i, millisOfDay / MILLIS_PER_MINUTE % 60, 2);
+        dst[i++] = ':';
+        i = writeDigits(dst, i, millisOfDay / MILLIS_PER_SECOND % 60, 2);
+        dst[i++] = '.';
+        i = writeDigits(dst, i, millisOfDay % MILLIS_PER_SECOND, 3);
+        dst[i++] = 'Z';
+        return i;
+    }
+
+    /**
+     * Appends to the builder, which doesn't allocate as long as it has the capacity
+     */
+    public static StringBuilder format(final long epochMillis, final StringBuilder sb) {
+        final int fields = EpochDays.toFields(EpochDays.ofEpochMillis(epochMillis));
+        final int millisOfDay = EpochDays.millisOfDay(epochMillis);
+
+        appendDigits(sb, EpochDays.year(fields), 4).append('-');
+        appendDigits(sb, EpochDays.month(fields), 2).append('-');
+        appendDigits(sb, EpochDays.dayOfMonth(fields), 2).append('T');
+        appendDigits(sb, millisOfDay / MILLIS_PER_HOUR, 2).append(':');
+        appendDigits(sb, millisOfDay / MILLIS_PER_MINUTE % 60, 2).append(':');
+        appendDigits(sb, millisOfDay / MILLIS_PER_SECOND % 60, 2).append('.');
+        return appendDigits(sb, millisOfDay % MILLIS_PER_SECOND, 3).append('Z');
+    }
+
+    public static long parse(final byte[] src, final int from, final int to) {
+        int i = from;
+        final int year = readDigits(src, i, to, 4);
+        i = expect(src, i + 4, to, '-');
+        final int month = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, '-');
+        final int day = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, 'T');
+        final int hour = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, ':');
+        final int minute = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, ':');
+        final int second = readDigits(src, i, to, 2);
+        i += 2;
+
+        int millis = 0;
+        if (i < to && src[i] == '.') {
+            final int start = ++i;
+            while (i < to && isDigit(src[i])) {
+                if (i - start < 3) millis = millis * 10 + (src[i] - '0');
+                i++;
+            }
+            final int digits = i - start;
+            if (digits == 0 || digits > 9) throw malformed(i);
+            for (int d = digits; d < 3; d++) millis *= 10;
+        }
+
+        final int offsetMillis;
+        if (i < to && src[i] == 'Z') {
+            offsetMillis = 0;
+            i++;
+        } else if (i < to && (src[i] == '+' || src[i] == '-')) {
+            final int sign = src[i] == '-' ? -1 : 1;
+            final int offsetHours = readDigits(src, i + 1, to, 2);
+            expect(src, i + 3, to, ':');
+            final int offsetMinutes = readDigits(src, i + 4, to, 2);
+            offsetMillis = sign * (offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE);
+            i += 6;
+        } else {
+            throw malformed(i);
+        }
+        if (i != to) throw malformed(i);
+
+        return toEpochMillis(year, month, day, hour, minute, second, millis, offsetMillis, from);
+    }
+
+    public static long parse(final CharSequence src) {
+        final int to = src.length();
+        int i = 0;
+        final int year = readDigits(src, i, to, 4);
+        i = expect(src, i + 4, to, '-');
+        final int month = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, '-');
+        final int day = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, 'T');
+        final int hour = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, ':');
+        final int minute = readDigits(src, i, to, 2);
+        i = expect(src, i + 2, to, ':');
+        final int second = readDigits(src, i, to, 2);
+        i += 2;
+
+        int millis = 0;
+        if (i < to && src.charAt(i) == '.') {
+            final int start = ++i;
+            while (i < to && isDigit(src.charAt(i))) {
+                if (i - start < 3) millis = millis * 10 + (src.charAt(i) - '0');
+                i++;
+            }
+            final int digits = i - start;
+            if (digits == 0 || digits > 9) throw malformed(i);
+            for (int d = digits; d < 3; d++) millis *= 10;
+        }
+
+        final int offsetMillis;
+        if (i < to && src.charAt(i) == 'Z') {
+            offsetMillis = 0;
+            i++;
+        } else if (i < to && (src.charAt(i) == '+' || src.charAt(i) == '-')) {
+            final int sign = src.charAt(i) == '-' ? -1 : 1;
+            final int offsetHours = readDigits(src, i + 1, to, 2);
+            expect(src, i + 3, to, ':');
+            final int offsetMinutes = readDigits(src, i + 4, to, 2);
+            offsetMillis = sign * (offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE);
+            i += 6;
+        } else {
+            throw malformed(i);
+        }
+        if (i != to) throw malformed(i);
+
+        return toEpochMillis(year, month, day, hour, minute, second, millis, offsetMillis, 0);
+    }
+
+    private static long toEpochMillis(
+            final int year,
+            final int month,
+            final int day,
+            final int hour,
+            final int minute,
+            final int second,
+            final int millis,
+            final int offsetMillis,
+            final int from
+    ) {
+        if (month < 1 || month > 12 || day < 1 || day > EpochDays.lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            throw malformed(from);
+        }
+        return EpochDays.of(year, month, day) * EpochDays.MILLIS_PER_DAY
+                + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE + second * MILLIS_PER_SECOND + millis
+                - offsetMillis;
+    }
+
+    private static int writeDigits(final byte[] dst, final int offset, int value, final int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + count;
+    }
+
+    private static StringBuilder appendDigits(final StringBuilder sb, final int value, final int count) {
+        for (int divisor = count == 4 ? 1000 : count == 3 ? 100 : 10; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + value / divisor % 10));
+        }
+        return sb;
+    }
+
+    private static int readDigits(final byte[] src, final int from, final int to, final int count) {
+        if (from + count > to) throw malformed(from);
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            if (!isDigit(src[i])) throw malformed(i);
+            value = value * 10 + (src[i] - '0');
+        }
+        return value;
+    }
+
+    private static int readDigits(final CharSequence src, final int from, final int to, final int count) {
+        if (from + count > to) throw malformed(from);
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            final char c = src.charAt(i);
+            if (!isDigit(c)) throw malformed(i);
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int expect(final byte[] src, final int i, final int to, final char c) {
+        if (i >= to || src[i] != c) throw malformed(i);
+        return i + 1;
+    }
+
+    private static int expect(final CharSequence src, final int i, final int to, final char c) {
+        if (i >= to || src.charAt(i) != c) throw malformed(i);
+        return i + 1;
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static IllegalArgumentException malformed(final int index) {
+        return new IllegalArgumentException("Malformed ISO-8601 instant at " + index);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.datetime;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * Checks {@link IsoCodec} against {@code java.time} on random instants of years 0000..9999:
+ * both format methods give the text of a fixed millis pattern and both parse methods read it back.
+ * Then the same local date time is written with 0 to 9 fraction digits and a random offset,
+ * which the codec has to read like {@link OffsetDateTime#parse}, and cut by one char, which it has to reject.
+ * Stops at the first mismatch.
+ */
+public class IsoCodecCheck {
+
+    private static final int INSTANTS = 5_000_000;
+
+    private static final DateTimeFormatter MILLIS_FORMATTER = DateTimeFormatter
+            .ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter SECONDS_FORMATTER = DateTimeFormatter
+            .ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    public static void main(String[] args) {
+        final long first = Instant.parse("0000-01-01T00:00:00Z").toEpochMilli();
+        final long last = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[IsoCodec.LENGTH];
+        final StringBuilder sb = new StringBuilder(IsoCodec.LENGTH);
+
+        for (int i = 0; i < INSTANTS; i++) {
+            final long millis = first + (long) (random.nextDouble() * (last - first));
+            final String expected = MILLIS_FORMATTER.format(Instant.ofEpochMilli(millis));
+
+            check(IsoCodec.format(millis, bytes, 0) == IsoCodec.LENGTH
+                    && expected.equals(new String(bytes, StandardCharsets.US_ASCII)), "format(byte[])", expected);
+            sb.setLength(0);
+            check(expected.contentEquals(IsoCodec.format(millis, sb)), "format(StringBuilder)", expected);
+            check(IsoCodec.parse(expected) == millis, "parse(CharSequence)", expected);
+            check(IsoCodec.parse(bytes, 0, bytes.length) == millis, "parse(byte[])", expected);
+
+            final String text = withFractionAndOffset(millis, random);
+            check(IsoCodec.parse(text) == OffsetDateTime.parse(text).toInstant().toEpochMilli(),
+                    "parse(CharSequence)", text);
+            final byte[] textBytes = text.getBytes(StandardCharsets.US_ASCII);
+            check(IsoCodec.parse(textBytes, 0, textBytes.length) == IsoCodec.parse(text), "parse(byte[])", text);
+
+            check(rejects(text.substring(0, text.length() - 1)), "parse of a cut text", text);
+        }
+
+        System.out.println("IsoCodec matches java.time, " + INSTANTS + " instants");
+    }
+
+    /**
+     * The local date time of millis in UTC, with 0..9 digits of fraction and an offset of -18:00..+18:00 or Z
+     */
+    private static String withFractionAndOffset(final long millis, final Random random) {
+        final StringBuilder sb = new StringBuilder(SECONDS_FORMATTER.format(
+                Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC).toLocalDateTime()));
+
+        final int digits = random.nextInt(10);
+        if (digits > 0) {
+            sb.append('.');
+            for (int d = 0; d < digits; d++) {
+                sb.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+
+        final int offsetMinutes = random.nextInt(2 * 18 * 60 + 1) - 18 * 60;
+        if (offsetMinutes == 0 || random.nextBoolean()) {
+            sb.append('Z');
+        } else {
+            sb.append(ZoneOffset.ofTotalSeconds(offsetMinutes * 60).getId());
+        }
+        return sb.toString();
+    }
+
+    private static boolean rejects(final String text) {
+        try {
+            IsoCodec.parse(text);
+            return false;
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    private static void check(final boolean matches, final String method, final String text) {
+        if (!matches) {
+            throw new IllegalStateException("IsoCodec." + method + " differs from java.time for " + text);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.datetime;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import net.time4j.Moment;
+import net.time4j.TemporalType;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.ISODateTimeFormat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the ISO-8601 UTC timestamp of {@link FormatInstant} to epoch millis by every library,
+ * against {@link IsoCodec}, which reads the String as a CharSequence and the ASCII bytes,
+ * as they come from a JSON or a log buffer.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput})
+public class ParseInstant {
+
+    private static final ThreadLocal<SimpleDateFormat> SIMPLE_DATE_FORMAT = ThreadLocal.withInitial(() -> {
+        final SimpleDateFormat format = new SimpleDateFormat(FormatInstant.SIMPLE_DATE_FORMAT_PATTERN, Locale.ROOT);
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format;
+    });
+
+    private String mText;
+    private byte[] mBytes;
+
+    private DateTimeFormatter mJodaParser;
+    private ChronoFormatter<Moment> mTime4JFormatter;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(ParseInstant.class).build();
+
+        ScoreReport.print(ResultStore.save(ParseInstant.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() throws ParseException {
+        // A copy, so nothing can be folded from the constant
+        mText = new String(FormatInstant.TEXT.toCharArray());
+        mBytes = mText.getBytes(StandardCharsets.US_ASCII);
+
+        mJodaParser = ISODateTimeFormat.dateTimeParser().withZoneUTC();
+        mTime4JFormatter = ChronoFormatter.ofMomentPattern(
+                FormatInstant.TIME4J_PATTERN, PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+
+        for (long millis : new long[]{
+                javaFormatter(), threeTenFormatter(), jodaIsoFormat(), simpleDateFormatThreadLocal(),
+                time4JFormatter(), codecCharSequence(), codecBytes()
+        }) {
+            if (millis != FormatInstant.MILLIS) {
+                throw new IllegalStateException("Parsed " + millis + " instead of " + FormatInstant.MILLIS);
+            }
+        }
+    }
+
+    @Benchmark
+    public long javaFormatter() {
+        return java.time.format.DateTimeFormatter.ISO_INSTANT.parse(mText, java.time.Instant::from).toEpochMilli();
+    }
+
+    @Benchmark
+    public long threeTenFormatter() {
+        return org.threeten.bp.format.DateTimeFormatter.ISO_INSTANT
+                .parse(mText, org.threeten.bp.Instant.FROM).toEpochMilli();
+    }
+
+    @Benchmark
+    public long jodaIsoFormat() {
+        return mJodaParser.parseMillis(mText);
+    }
+
+    @Benchmark
+    public long simpleDateFormatThreadLocal() throws ParseException {
+        return SIMPLE_DATE_FORMAT.get().parse(mText).getTime();
+    }
+
+    @Benchmark
+    public long time4JFormatter() throws ParseException {
+        return TemporalType.MILLIS_SINCE_UNIX.from(mTime4JFormatter.parse(mText));
+    }
+
+    @Benchmark
+    public long codecCharSequence() {
+        return IsoCodec.parse(mText);
+    }
+
+    @Benchmark
+    public long codecBytes() {
+        return IsoCodec.parse(mBytes, 0, mBytes.length);
+    }
+}
@@ -15,6 +15,9 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import net.time4j.CalendarUnit;
 import net.time4j.SystemClock;
 import org.joda.time.DateTimeZone;
@@ -24,7 +27,6 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Calendar;
 import java.util.concurrent.TimeUnit;
@@ -64,14 +66,12 @@ public class PlusDays {
     private java.time.LocalDate mJavaLocalDate;
     private java.util.Calendar mJavaCalendar;
     private net.time4j.PlainTimestamp m4JPlainTimestamp;
+    private long mEpochDay;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(PlusDays.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(PlusDays.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(PlusDays.class, new Runner(opt).run()));
     }
 
     @Setup
@@ -98,6 +98,11 @@ public class PlusDays {
         blackhole.consume(mJavaCalendar.getTimeInMillis());
 
         m4JPlainTimestamp = SystemClock.inLocalView().now();
+
+        mEpochDay = mJavaLocalDate.toEpochDay();
+        if (EpochDays.dayOfYear(EpochDays.plusDays(mEpochDay, 1)) != mJavaLocalDate.plusDays(1).getDayOfYear()) {
+            throw new IllegalStateException("EpochDays.plusDays differs from java.time");
+        }
     }
 
     @Benchmark
@@ -161,4 +166,9 @@ public class PlusDays {
     public long time4JPlainTimestamp() {
         return m4JPlainTimestamp.plus(1, CalendarUnit.DAYS).getCalendarDate().getDayOfYear();
     }
+
+    @Benchmark
+    public int epochDay() {
+        return EpochDays.dayOfYear(EpochDays.plusDays(mEpochDay, 1));
+    }
 }
\ No newline at end of file
@@ -15,6 +15,9 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import net.time4j.CalendarUnit;
 import net.time4j.SystemClock;
 import org.joda.time.DateTimeConstants;
@@ -24,7 +27,6 @@ import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Calendar;
 import java.util.concurrent.TimeUnit;
@@ -66,14 +68,12 @@ public class PlusWeeks {
     private java.time.LocalDate mJavaLocalDate;
     private Calendar mJavaCalendar;
     private net.time4j.PlainTimestamp m4JPlainTimestamp;
+    private long mEpochDay;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(PlusWeeks.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(PlusWeeks.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(PlusWeeks.class, new Runner(opt).run()));
     }
 
     @Setup
@@ -101,6 +101,11 @@ public class PlusWeeks {
         blackhole.consume(mJavaCalendar.getTimeInMillis());
 
         m4JPlainTimestamp = SystemClock.inLocalView().now();
+
+        mEpochDay = mJavaLocalDate.toEpochDay();
+        if (epochDay() != javaLocalDate()) {
+            throw new IllegalStateException("EpochDays.plusWeeks differs from java.time");
+        }
     }
 
     @Benchmark
@@ -177,4 +182,9 @@ public class PlusWeeks {
     public long time4JPlainTimestamp() {
         return m4JPlainTimestamp.plus(3, CalendarUnit.WEEKS).getCalendarDate().getDayOfWeek().getValue();
     }
+
+    @Benchmark
+    public int epochDay() {
+        return EpochDays.dayOfWeek(EpochDays.plusWeeks(EpochDays.previous(mEpochDay, EpochDays.MONDAY), 3));
+    }
 }
\ No newline at end of file
@@ -15,13 +15,15 @@
  */
 package com.olekdia.datetime;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
 import org.joda.time.*;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.threeten.bp.temporal.ChronoUnit;
 
 import java.util.Calendar;
@@ -65,16 +67,15 @@ public class WeeksBetween {
     private java.time.ZonedDateTime mJavaZoneDateTimeEnd;
     private java.time.LocalDate mJavaLocalDateStart;
     private java.time.LocalDate mJavaLocalDateEnd;
+    private long mEpochDayStart;
+    private long mEpochDayEnd;
 
     private final static int MONTHS_BETWEEN = 60;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(WeeksBetween.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(WeeksBetween.class).build();
 
-        new Runner(opt).run();
+        ScoreReport.print(ResultStore.save(WeeksBetween.class, new Runner(opt).run()));
     }
 
     @Setup
@@ -102,6 +103,12 @@ public class WeeksBetween {
         mJavaZoneDateTimeStart = java.time.ZonedDateTime.now()
                 .withHour(0).withMinute(0).withSecond(0).withNano(0);
         mJavaZoneDateTimeEnd = mJavaZoneDateTimeStart.plusMonths(MONTHS_BETWEEN);
+
+        mEpochDayStart = mJavaLocalDateStart.toEpochDay();
+        mEpochDayEnd = EpochDays.plusMonths(mEpochDayStart, MONTHS_BETWEEN);
+        if (epochDay() != javaLocalDate()) {
+            throw new IllegalStateException("EpochDays.weeksBetween differs from java.time");
+        }
     }
 
     @Benchmark
@@ -155,4 +162,9 @@ public class WeeksBetween {
         return java.time.temporal
                 .ChronoUnit.WEEKS.between(mJavaLocalDateStart, mJavaLocalDateEnd);
     }
+
+    @Benchmark
+    public long epochDay() {
+        return EpochDays.weeksBetween(mEpochDayStart, mEpochDayEnd);
+    }
 }
\ No newline at end of file
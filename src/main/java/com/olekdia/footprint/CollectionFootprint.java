@@ -0,0 +1,162 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.footprint;
+
+import com.olekdia.pcollections.Lists;
+import com.olekdia.pcollections.Maps;
+import com.olekdia.pcollections.Sets;
+import com.olekdia.primitives.IntLists;
+import com.olekdia.primitives.IntMaps;
+import com.olekdia.primitives.IntSets;
+import com.olekdia.primitives.OffHeapIntIntMap;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.StoredResult;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * Retained bytes per entry of every collection built by the {@link Lists}, {@link Sets}, {@link Maps}
+ * fixtures and their primitive counterparts, across the same size sweep as the timing benchmarks.
+ *
+ * Only the structure of a collection is counted: every fixture builds its boxed collections from
+ * the Integer instances of its array fields, which are left out, so the same collection gets the same
+ * bytes per entry in every fixture, and a collection of primitives saves exactly the bytes shown.
+ * The off-heap table of {@link OffHeapIntIntMap} is added to its on-heap part.
+ *
+ * The results are saved next to the timing results (mode {@code ss}, unit {@code B/entry}), so
+ * {@code ResultRenderer} and {@code RegressionGate} take them too. On JDK 9+ run it with the JDK
+ * packages opened, otherwise the JDK collections are only counted with their top object:
+ * <pre>
+ * java --add-opens java.base/java.util=ALL-UNNAMED --add-opens java.base/java.lang=ALL-UNNAMED \
+ *     --add-opens java.base/java.nio=ALL-UNNAMED \
+ *     -cp target/benchmarks.jar com.olekdia.footprint.CollectionFootprint [size...]
+ * </pre>
+ */
+public class CollectionFootprint {
+
+    public static final String UNIT = "B/entry";
+    public static final String PARAM_FIXTURE = "fixture";
+    public static final String PARAM_SIZE = "size";
+
+    private static final int[] DEFAULT_SIZES = {10, 1000, 100000, 1000000};
+
+    public static void main(String[] args) {
+        final int[] sizes = args.length == 0
+                ? DEFAULT_SIZES
+                : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+
+        final ObjectGraph graph = new ObjectGraph();
+        final List<StoredResult> results = new ArrayList<>();
+        for (int size : sizes) {
+            measure(graph, Lists.class, Lists::new, size, results);
+            measure(graph, Sets.class, Sets::new, size, results);
+            measure(graph, Maps.class, Maps::new, size, results);
+            measure(graph, IntLists.class, IntLists::new, size, results);
+            measure(graph, IntSets.class, IntSets::new, size, results);
+            measure(graph, IntMaps.class, IntMaps::new, size, results);
+        }
+
+        if (!graph.getClosedClasses().isEmpty()) {
+            System.err.println("Fields of these classes were not walked, open their packages with --add-opens: "
+                    + graph.getClosedClasses());
+        }
+        print(ResultStore.saveStored(CollectionFootprint.class, results));
+    }
+
+    /**
+     * Every non array field of the fixture is a collection. The array fields hold the elements,
+     * which are excluded from the count.
+     */
+    private static <T> void measure(
+            final ObjectGraph graph,
+            final Class<T> fixtureClass,
+            final IntFunction<T> fixtureFactory,
+            final int size,
+            final List<StoredResult> results
+    ) {
+        final T fixture = fixtureFactory.apply(size);
+        final Field[] fields = fixtureClass.getFields();
+
+        final List<Object> elements = new ArrayList<>();
+        for (Field field : fields) {
+            final Object value = get(field, fixture);
+            if (value instanceof Object[]) elements.addAll(Arrays.asList((Object[]) value));
+        }
+
+        for (Field field : fields) {
+            final Object collection = get(field, fixture);
+            if (collection == null || collection.getClass().isArray()) continue;
+
+            long bytes = graph.retainedSize(collection, elements);
+            if (collection instanceof OffHeapIntIntMap) {
+                bytes += ((OffHeapIntIntMap) collection).allocatedBytes();
+            }
+
+            final Map<String, String> params = new LinkedHashMap<>();
+            params.put(PARAM_FIXTURE, fixtureClass.getSimpleName());
+            params.put(PARAM_SIZE, String.valueOf(size));
+            results.add(StoredResult.of(
+                    CollectionFootprint.class.getName() + "." + field.getName().substring(1),
+                    params,
+                    (double) bytes / size,
+                    UNIT
+            ));
+        }
+    }
+
+    private static Object get(final Field field, final Object fixture) {
+        try {
+            return field.get(fixture);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The same layout as the scaling tables of the timing benchmarks
+     */
+    private static void print(final List<StoredResult> results) {
+        final TreeSet<Integer> sizes = new TreeSet<>();
+        final Map<String, Map<Integer, Double>> rows = new LinkedHashMap<>();
+        for (StoredResult r : results) {
+            final int size = Integer.parseInt(r.getParams().get(PARAM_SIZE));
+            sizes.add(size);
+            rows.computeIfAbsent(r.getParams().get(PARAM_FIXTURE) + " " + r.getMethodName(), k -> new HashMap<>())
+                    .put(size, r.getScore());
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Collection \\ size, _").append(UNIT).append("_ |");
+        for (Integer size : sizes) sb.append(' ').append(size).append(" |");
+        sb.append('\n').append("| ------ |");
+        for (int i = 0; i < sizes.size(); i++) sb.append(" ------ |");
+        sb.append('\n');
+
+        for (Map.Entry<String, Map<Integer, Double>> row : rows.entrySet()) {
+            sb.append("| ").append(row.getKey()).append(" |");
+            for (Integer size : sizes) {
+                final Double value = row.getValue().get(size);
+                sb.append(' ').append(value == null ? "-" : String.format(Locale.US, "%.1f", value)).append(" |");
+            }
+            sb.append('\n');
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
@@ -0,0 +1,171 @@
+package com.olekdia.footprint;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Walks the object graph reachable from a root through instance fields and array elements,
+ * and sums the shallow sizes of every object it meets once.
+ *
+ * Shallow sizes follow the HotSpot 64-bit layout, the way JOL estimates them without an agent:
+ * object header, then the fields, rounded up to the object alignment. The header and
+ * reference sizes are read from the running VM flags (compressed oops and class pointers).
+ * Field packing inside the object is not modelled, so a size can be off by a few bytes
+ * on VMs which leave gaps between the fields of super and sub classes.
+ *
+ * Classes, class loaders, threads and references are counted but never entered:
+ * they lead to objects shared by the whole VM, not owned by the root.
+ * On JDK 9+ the fields of JDK classes are only readable with {@code --add-opens},
+ * objects of classes which can't be opened are counted with their shallow size alone.
+ */
+public class ObjectGraph {
+
+    private static final boolean COMPRESSED_OOPS = vmFlag("UseCompressedOops", true);
+    private static final boolean COMPRESSED_CLASS_POINTERS = vmFlag("UseCompressedClassPointers", true);
+    private static final int ALIGNMENT = Integer.parseInt(vmOption("ObjectAlignmentInBytes", "8"));
+
+    private static final int REFERENCE_SIZE = COMPRESSED_OOPS ? 4 : 8;
+    private static final int OBJECT_HEADER = COMPRESSED_CLASS_POINTERS ? 12 : 16;
+    private static final int ARRAY_HEADER = OBJECT_HEADER + 4;
+
+    private final Map<Class<?>, ClassLayout> mLayouts = new HashMap<>();
+    private final Set<Class<?>> mClosedClasses = new LinkedHashSet<>();
+
+    /**
+     * @param excluded objects which are neither counted nor entered, like the elements,
+     *                 that are shared by all the collections under test
+     * @return bytes retained by the root
+     */
+    public long retainedSize(final Object root, final Collection<?> excluded) {
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        visited.addAll(excluded);
+
+        final ArrayDeque<Object> stack = new ArrayDeque<>();
+        if (visited.add(root)) stack.push(root);
+
+        long total = 0;
+        while (!stack.isEmpty()) {
+            final Object o = stack.pop();
+            final Class<?> type = o.getClass();
+
+            if (type.isArray()) {
+                final int length = Array.getLength(o);
+                final Class<?> component = type.getComponentType();
+                total += align(ARRAY_HEADER + (long) length * sizeOf(component));
+                if (!component.isPrimitive()) {
+                    for (Object element : (Object[]) o) {
+                        if (element != null && visited.add(element)) stack.push(element);
+                    }
+                }
+                continue;
+            }
+
+            final ClassLayout layout = layoutOf(type);
+            total += layout.mShallowSize;
+            if (layout.mReferences == null) continue;
+
+            for (Field field : layout.mReferences) {
+                final Object value;
+                try {
+                    value = field.get(o);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (value != null && visited.add(value)) stack.push(value);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Classes met so far, whose fields couldn't be read
+     */
+    public Set<Class<?>> getClosedClasses() {
+        return mClosedClasses;
+    }
+
+    private ClassLayout layoutOf(final Class<?> type) {
+        ClassLayout layout = mLayouts.get(type);
+        if (layout == null) {
+            layout = createLayout(type);
+            mLayouts.put(type, layout);
+        }
+        return layout;
+    }
+
+    private ClassLayout createLayout(final Class<?> type) {
+        long fieldsSize = 0;
+        final List<Field> references = new ArrayList<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+
+                fieldsSize += sizeOf(field.getType());
+                if (!field.getType().isPrimitive()) references.add(field);
+            }
+        }
+        final long shallowSize = align(OBJECT_HEADER + fieldsSize);
+
+        if (isOpaque(type)) return new ClassLayout(shallowSize, null);
+        try {
+            for (Field field : references) {
+                field.setAccessible(true);
+            }
+        } catch (RuntimeException e) {
+            // InaccessibleObjectException of JDK 9+, the module of the class isn't opened
+            mClosedClasses.add(type);
+            return new ClassLayout(shallowSize, null);
+        }
+        return new ClassLayout(shallowSize, references.toArray(new Field[0]));
+    }
+
+    private static boolean isOpaque(final Class<?> type) {
+        return Class.class == type
+                || ClassLoader.class.isAssignableFrom(type)
+                || Thread.class.isAssignableFrom(type)
+                || java.lang.ref.Reference.class.isAssignableFrom(type);
+    }
+
+    private static int sizeOf(final Class<?> type) {
+        if (!type.isPrimitive()) return REFERENCE_SIZE;
+        if (type == long.class || type == double.class) return 8;
+        if (type == int.class || type == float.class) return 4;
+        if (type == short.class || type == char.class) return 2;
+        return 1; // byte, boolean
+    }
+
+    private static long align(final long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static boolean vmFlag(final String name, final boolean defaultValue) {
+        return Boolean.parseBoolean(vmOption(name, String.valueOf(defaultValue)));
+    }
+
+    private static String vmOption(final String name, final String defaultValue) {
+        try {
+            return ManagementFactory.getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class)
+                    .getVMOption(name)
+                    .getValue();
+        } catch (RuntimeException e) {
+            // Not a HotSpot VM, or the flag doesn't exist in this version
+            return defaultValue;
+        }
+    }
+
+    private static class ClassLayout {
+        final long mShallowSize;
+        /**
+         * Reference fields of the class and its supers, null if they are not walked
+         */
+        final Field[] mReferences;
+
+        ClassLayout(final long shallowSize, final Field[] references) {
+            mShallowSize = shallowSize;
+            mReferences = references;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.footprint;
+
+import com.olekdia.pcollections.VersionedMap;
+import com.olekdia.pcollections.VersionedMaps;
+import com.olekdia.pcollections.Versions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.StoredResult;
+
+import java.util.*;
+
+/**
+ * Retained memory of a base map and the versions derived from it, see {@code MapVersions}.
+ * Persistent maps pay for the changed paths of every version, copy-on-write maps for a whole copy.
+ *
+ * Keys and values are shared by all the versions and left out. Run with the same
+ * {@code --add-opens} as {@link CollectionFootprint}, args: [size [versions [delta]]].
+ */
+public class VersionFootprint {
+
+    public static final String UNIT = "B/version";
+
+    private static final String[] TYPES = {
+            VersionedMaps.HASH_PMAP,
+            VersionedMaps.INT_TREE_PMAP,
+            VersionedMaps.JIMMUTABLE_HASH_MAP,
+            VersionedMaps.ECLIPSE_IMMUTABLE_MAP,
+            VersionedMaps.COPY_ON_WRITE_HASH_MAP
+    };
+
+    public static void main(String[] args) {
+        final int size = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        final int count = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        final int delta = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        final ObjectGraph graph = new ObjectGraph();
+        final List<StoredResult> results = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder()
+                .append("| Map | Base _MB_ | Base + ").append(count).append(" versions _MB_ | Per version _KB_ |\n")
+                .append("| ------ | ------ | ------ | ------ |\n");
+
+        for (String type : TYPES) {
+            final Versions versions = new Versions(type, size, count, delta);
+
+            final List<Object> shared = new ArrayList<>();
+            Collections.addAll(shared, versions.mKeys);
+            Collections.addAll(shared, versions.mValues);
+            for (Integer[] values : versions.mDeltaValues) Collections.addAll(shared, values);
+
+            final Object[] all = new Object[count + 1];
+            all[0] = versions.mBase.map();
+            for (int v = 0; v < count; v++) {
+                all[v + 1] = versions.mVersions[v].map();
+            }
+            final long base = graph.retainedSize(versions.mBase.map(), shared);
+            // The array holding the versions is not a part of them
+            final long total = graph.retainedSize(all, shared) - graph.retainedSize(new Object[count + 1], shared);
+            final double perVersion = (double) (total - base) / count;
+
+            final Map<String, String> params = new LinkedHashMap<>();
+            params.put("size", String.valueOf(size));
+            params.put("versions", String.valueOf(count));
+            params.put("delta", String.valueOf(delta));
+            results.add(StoredResult.of(VersionFootprint.class.getName() + "." + type, params, perVersion, UNIT));
+
+            sb.append("| ").append(type)
+                    .append(" | ").append(String.format(Locale.US, "%.1f", base / 1e6))
+                    .append(" | ").append(String.format(Locale.US, "%.1f", total / 1e6))
+                    .append(" | ").append(String.format(Locale.US, "%.1f", perVersion / 1e3))
+                    .append(" |\n");
+        }
+
+        if (!graph.getClosedClasses().isEmpty()) {
+            System.err.println("Fields of these classes were not walked, open their packages with --add-opens: "
+                    + graph.getClosedClasses());
+        }
+        ResultStore.saveStored(VersionFootprint.class, results);
+        System.out.println();
+        System.out.print(sb);
+    }
+}
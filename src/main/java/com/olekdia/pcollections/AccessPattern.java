@@ -0,0 +1,119 @@
+package com.olekdia.pcollections;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Precomputed streams of indices into a collection of {@code size} elements,
+ * so the benchmark loops only replay an int[] and measure the lookups alone.
+ */
+public class AccessPattern {
+
+    public static final String UNIFORM = "uniform";
+    public static final String SEQUENTIAL = "sequential";
+    public static final String ZIPF = "zipf";
+    public static final String HOT_SET = "hotset";
+
+    /**
+     * Exponent of the Zipf distribution, with 1.0 the most popular key gets
+     * about 7% of the lookups in a map of 1M keys
+     */
+    public static final double ZIPF_EXPONENT = 1.0;
+
+    /**
+     * With the hot set pattern HOT_SET_PERCENT of the lookups go to HOT_SET_FRACTION of the keys
+     */
+    public static final double HOT_SET_FRACTION = 0.1;
+    public static final int HOT_SET_PERCENT = 90;
+
+    private static final long SEED = 42L;
+
+    public static int[] indices(final String pattern, final int size, final int count, final long seed) {
+        final Random random = new Random(seed);
+        switch (pattern) {
+            case UNIFORM:
+                return uniform(random, size, count);
+            case SEQUENTIAL:
+                return sequential(random, size, count);
+            case ZIPF:
+                return zipf(random, size, count);
+            case HOT_SET:
+                return hotSet(random, size, count);
+            default:
+                throw new IllegalArgumentException("Unknown access pattern: " + pattern);
+        }
+    }
+
+    private static int[] uniform(final Random random, final int size, final int count) {
+        final int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        return indices;
+    }
+
+    /**
+     * Walks the keys in order, starting from a random one
+     */
+    private static int[] sequential(final Random random, final int size, final int count) {
+        final int[] indices = new int[count];
+        int index = random.nextInt(size);
+        for (int i = 0; i < count; i++) {
+            indices[i] = index;
+            if (++index == size) index = 0;
+        }
+        return indices;
+    }
+
+    /**
+     * Rank r is picked with probability proportional to 1 / r^s. Ranks are shuffled over the indices,
+     * so the hot keys are not the first ones, which in sorted maps would also be neighbours.
+     * The shuffle doesn't depend on the seed: streams of all threads share the same hot keys.
+     */
+    private static int[] zipf(final Random random, final int size, final int count) {
+        final double[] cdf = new double[size];
+        double sum = 0;
+        for (int r = 0; r < size; r++) {
+            sum += 1.0 / Math.pow(r + 1, ZIPF_EXPONENT);
+            cdf[r] = sum;
+        }
+
+        final int[] rankToIndex = shuffled(new Random(SEED), size);
+        final int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            if (rank < 0) rank = -rank - 1;
+            indices[i] = rankToIndex[Math.min(rank, size - 1)];
+        }
+        return indices;
+    }
+
+    /**
+     * The hot keys are scattered over the whole map, the same as the Zipf ranks
+     */
+    private static int[] hotSet(final Random random, final int size, final int count) {
+        final int[] keys = shuffled(new Random(SEED), size);
+        final int hotCount = Math.max(1, (int) (size * HOT_SET_FRACTION));
+        final int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = random.nextInt(100) < HOT_SET_PERCENT || hotCount == size
+                    ? keys[random.nextInt(hotCount)]
+                    : keys[hotCount + random.nextInt(size - hotCount)];
+        }
+        return indices;
+    }
+
+    private static int[] shuffled(final Random random, final int size) {
+        final int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+        return array;
+    }
+}
@@ -1,6 +1,8 @@
 package com.olekdia.pcollections;
 
+import androidx.collection.ArrayMap;
 import androidx.collection.SparseArrayCompat;
+import com.olekdia.primitives.OffHeapIntIntMap;
 import com.google.common.collect.ImmutableMap.Builder;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
@@ -10,6 +12,7 @@ import org.pcollections.PCollection;
 import org.pcollections.PMap;
 import org.pcollections.PSequence;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -67,6 +70,35 @@ public class CollectionHelper {
         return m;
     }
 
+    public static <T extends Map> T put(final T m, final Object[] keys, final Object[] values) {
+        for (int i = 0; i < keys.length; i++) m.put(keys[i], values[i]);
+        return m;
+    }
+
+    public static PMap plus(PMap m, final Object[] keys, final Object[] values) {
+        for (int i = 0; i < keys.length; i++) m = m.plus(keys[i], values[i]);
+        return m;
+    }
+
+    public static JImmutableMap put(JImmutableMap m, final Object[] keys, final Object[] values) {
+        for (int i = 0; i < keys.length; i++) m = m.assign(keys[i], values[i]);
+        return m;
+    }
+
+    public static JImmutableMap put(JImmutableMap.Builder b, final Object[] keys, final Object[] values) {
+        for (int i = 0; i < keys.length; i++) b.add(keys[i], values[i]);
+        return b.build();
+    }
+
+    public static com.google.common.collect.ImmutableMap put(
+            final Builder b,
+            final Object[] keys,
+            final Object[] values
+    ) {
+        for (int i = 0; i < keys.length; i++) b.put(keys[i], values[i]);
+        return b.build();
+    }
+
     public static com.google.common.collect.ImmutableMap putGuava(
             com.google.common.collect.ImmutableMap m,
             final Object[] list
@@ -100,6 +132,38 @@ public class CollectionHelper {
         return m;
     }
 
+    /**
+     * ArrayMap keeps its entries sorted by hash code and shifts its arrays on every put in the middle.
+     * In hash order every put lands at the end, so 1M random keys take n log n to load instead of n^2
+     */
+    public static ArrayMap putInHashOrder(final ArrayMap m, final Object[] keys, final Object[] values) {
+        final long[] order = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (long) keys[i].hashCode() << 32 | i;
+        }
+        Arrays.sort(order);
+        for (long hashAndIndex : order) {
+            final int i = (int) hashAndIndex;
+            m.put(keys[i], values[i]);
+        }
+        return m;
+    }
+
+    /**
+     * SparseArrayCompat is sorted by key, append of a key above all the others doesn't shift anything
+     */
+    public static SparseArrayCompat putInKeyOrder(final SparseArrayCompat m, final Integer[] list) {
+        final Integer[] sorted = list.clone();
+        Arrays.sort(sorted);
+        for (Integer e : sorted) m.append(e, e);
+        return m;
+    }
+
+    public static OffHeapIntIntMap put(final OffHeapIntIntMap m, final Integer[] list) {
+        for (Integer e : list) m.put(e, e);
+        return m;
+    }
+
     public static JImmutableMap put(JImmutableMap m, final Object[] list) {
         for (Object e : list) m = m.assign(e, e);
         return m;
@@ -120,6 +184,29 @@ public class CollectionHelper {
         return m;
     }
 
+    /**
+     * Puts back everything a remove benchmark took out, the collection keeps its capacity
+     */
+    public static <T extends Collection> T refill(final T c, final Object[] list) {
+        c.clear();
+        return add(c, list);
+    }
+
+    public static <T extends Map> T refill(final T m, final Object[] list) {
+        m.clear();
+        return put(m, list);
+    }
+
+    public static SparseArrayCompat refill(final SparseArrayCompat m, final Integer[] list) {
+        m.clear();
+        return put(m, list);
+    }
+
+    public static OffHeapIntIntMap refill(final OffHeapIntIntMap m, final Integer[] list) {
+        m.clear();
+        return put(m, list);
+    }
+
     public static long iterate(Iterator<Integer> it) {
         long sum = 0L;
         while (it.hasNext()) {
@@ -0,0 +1,29 @@
+package com.olekdia.pcollections;
+
+/**
+ * Indices of one {@link AccessPattern}, generated in setup and replayed by a single benchmark thread.
+ *
+ * The stream is never shorter than MIN_LENGTH, so even for a map of 10 keys the branch
+ * predictor can't learn the whole sequence by heart. Its length is a power of two,
+ * the cursor wraps around with a mask.
+ */
+public class IndexStream {
+
+    private static final int MIN_LENGTH = 1 << 16;
+
+    private final int[] mIndices;
+    private final int mMask;
+    private int mCursor;
+
+    public IndexStream(final String pattern, final int size, final long seed) {
+        final int length = Math.max(MIN_LENGTH, Integer.highestOneBit(Math.max(size - 1, 1)) << 1);
+        mIndices = AccessPattern.indices(pattern, size, length, seed);
+        mMask = length - 1;
+    }
+
+    public int next() {
+        final int index = mIndices[mCursor];
+        mCursor = (mCursor + 1) & mMask;
+        return index;
+    }
+}
@@ -0,0 +1,145 @@
+package com.olekdia.pcollections;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Key factory for the map benchmarks, every type gives {@code size} distinct keys.
+ * Integer keys from {@code Integer.valueOf(i)} have a perfect hash and live next to each other in memory,
+ * the other types show how maps behave with the keys real applications have.
+ */
+public class Keys {
+
+    public static final String SEQUENTIAL_INT = "SequentialInt";
+    public static final String RANDOM_INT = "RandomInt";
+    public static final String SHORT_STRING = "ShortString";
+    public static final String UUID = "Uuid";
+    public static final String POOR_HASH = "PoorHash";
+
+    private static final long SEED = 42L;
+
+    public static Object[] create(final String type, final int size) {
+        switch (type) {
+            case SEQUENTIAL_INT:
+                return sequentialInts(size);
+            case RANDOM_INT:
+                return randomInts(size);
+            case SHORT_STRING:
+                return shortStrings(size);
+            case UUID:
+                return uuids(size);
+            case POOR_HASH:
+                return poorHashKeys(size);
+            default:
+                throw new IllegalArgumentException("Unknown key type: " + type);
+        }
+    }
+
+    /**
+     * @return true if keys of this type are {@link Integer}s, which the int keyed maps can hold
+     */
+    public static boolean isInt(final String type) {
+        return type.equals(SEQUENTIAL_INT) || type.equals(RANDOM_INT);
+    }
+
+    public static Integer[] sequentialInts(final int size) {
+        final Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = Integer.valueOf(i);
+        }
+        return keys;
+    }
+
+    /**
+     * Distinct ints spread over the whole int range, mostly outside of the Integer cache
+     */
+    public static Integer[] randomInts(final int size) {
+        final Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = Integer.valueOf(mix(i));
+        }
+        return keys;
+    }
+
+    /**
+     * Tenant id like strings of 2..8 chars, each a separate instance with its hash not yet computed
+     */
+    public static String[] shortStrings(final int size) {
+        final String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = "t" + Long.toString(mix(i) & 0xFFFFFFFFL, 36);
+        }
+        return keys;
+    }
+
+    public static UUID[] uuids(final int size) {
+        final Random random = new Random(SEED);
+        final UUID[] keys = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        return keys;
+    }
+
+    public static CompositeKey[] poorHashKeys(final int size) {
+        final CompositeKey[] keys = new CompositeKey[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = new CompositeKey(i % CompositeKey.TENANTS, i / CompositeKey.TENANTS);
+        }
+        return keys;
+    }
+
+    /**
+     * Murmur3 finalizer, a bijection, so distinct inputs stay distinct
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Tenant and id pair, which hashes only the tenant and the low bits of the id:
+     * whatever the size, there are no more than 1024 distinct hash codes.
+     */
+    public static final class CompositeKey implements Comparable<CompositeKey> {
+
+        static final int TENANTS = 16;
+
+        private final int mTenant;
+        private final int mId;
+
+        public CompositeKey(final int tenant, final int id) {
+            mTenant = tenant;
+            mId = id;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CompositeKey)) return false;
+
+            final CompositeKey other = (CompositeKey) o;
+            return mTenant == other.mTenant && mId == other.mId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * mTenant + (mId & 63);
+        }
+
+        @Override
+        public int compareTo(final CompositeKey other) {
+            final int byTenant = Integer.compare(mTenant, other.mTenant);
+            return byTenant != 0 ? byTenant : Integer.compare(mId, other.mId);
+        }
+
+        @Override
+        public String toString() {
+            return mTenant + ":" + mId;
+        }
+    }
+}
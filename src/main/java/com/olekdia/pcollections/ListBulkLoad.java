@@ -0,0 +1,139 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.javimmutable.collections.util.JImmutables;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.pcollections.ConsPStack;
+import org.pcollections.TreePVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lists of {@link MapBulkLoad}: copy constructors and addAll, builders with a single build,
+ * a mutable fill frozen with toImmutable, plusAll / insertAll of the persistent lists.
+ * The one at a time appends of {@link ListAppend} are kept for some of them
+ * ({@code Add}, {@code Plus}, {@code Insert}), as the baseline.
+ *
+ * The source is an ArrayList of the elements.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ListBulkLoad {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private volatile Integer[] mArray = null;
+    private volatile List<Integer> mSource = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(ListBulkLoad.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(ListBulkLoad.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mArray = Keys.sequentialInts(size);
+        mSource = new ArrayList<>(Arrays.asList(mArray));
+    }
+
+    @Benchmark
+    public Object ArrayListAdd() {
+        return CollectionHelper.add(new ArrayList<>(), mArray);
+    }
+
+    @Benchmark
+    public Object ArrayListAddAll() {
+        final List<Integer> list = new ArrayList<>();
+        list.addAll(mSource);
+        return list;
+    }
+
+    @Benchmark
+    public Object ArrayListCopy() {
+        return new ArrayList<>(mSource);
+    }
+
+    @Benchmark
+    public Object EclipseFastListCopy() {
+        return FastList.newList(mSource);
+    }
+
+    @Benchmark
+    public Object EclipseToImmutable() {
+        return CollectionHelper.add(FastList.newList(size), mArray).toImmutable();
+    }
+
+    @Benchmark
+    public Object GuavaImmutableListBuilder() {
+        final com.google.common.collect.ImmutableList.Builder<Integer> builder =
+                com.google.common.collect.ImmutableList.builder();
+        for (Integer e : mArray) builder.add(e);
+        return builder.build();
+    }
+
+    @Benchmark
+    public Object GuavaImmutableListCopyOf() {
+        return com.google.common.collect.ImmutableList.copyOf(mSource);
+    }
+
+    @Benchmark
+    public Object TreePVectorPlus() {
+        return CollectionHelper.plus(TreePVector.empty(), mArray);
+    }
+
+    @Benchmark
+    public Object TreePVectorPlusAll() {
+        return TreePVector.<Integer>empty().plusAll(mSource);
+    }
+
+    /**
+     * Every element goes to the head, so the stack holds the source in reverse order
+     */
+    @Benchmark
+    public Object ConsPStackPlusAll() {
+        return ConsPStack.<Integer>empty().plusAll(mSource);
+    }
+
+    @Benchmark
+    public Object JImmutableListInsert() {
+        return CollectionHelper.add(JImmutables.list(), mArray);
+    }
+
+    @Benchmark
+    public Object JImmutableListInsertAll() {
+        return JImmutables.<Integer>list().insertAll(mSource);
+    }
+
+    @Benchmark
+    public Object JImmutableListBuilder() {
+        return CollectionHelper.add(JImmutables.<Integer>listBuilder(), mArray);
+    }
+}
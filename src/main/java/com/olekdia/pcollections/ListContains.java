@@ -15,6 +15,8 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import androidx.collection.ArraySet;
 import org.javimmutable.collections.JImmutableList;
 import org.javimmutable.collections.JImmutableMultiset;
@@ -25,7 +27,6 @@ import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.*;
 
 import java.util.*;
@@ -38,24 +39,22 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class ListContains {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
 
     volatile Lists mLists = null;
     volatile Integer mSearchedObject = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(ListContains.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(ListContains.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerOp(ResultStore.save(ListContains.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mLists = new Lists(SIZE);
-        mSearchedObject = mLists.mArray[88888];
+        mLists = new Lists(size);
+        mSearchedObject = mLists.mArray[size * 8 / 9];
     }
 
     @Benchmark
@@ -15,12 +15,13 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.javimmutable.collections.util.JImmutables;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.*;
 
 import java.util.*;
@@ -33,26 +34,24 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class ListInsertMiddle {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000"})
+    public int size;
 
     volatile Object[] mValues = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(ListInsertMiddle.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(ListInsertMiddle.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(ListInsertMiddle.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mValues = new Object[SIZE];
+        mValues = new Object[size];
 
         Random random = new Random();
-        for (int i = 0; i < SIZE; i++) {
-            mValues[i] = Integer.valueOf(random.nextInt(SIZE));
+        for (int i = 0; i < size; i++) {
+            mValues[i] = Integer.valueOf(random.nextInt(size));
         }
     }
 
@@ -73,7 +72,7 @@ public class ListInsertMiddle {
 
     @Benchmark
     public Object ArrayListPredefinedSize() {
-        return CollectionHelper.addMid(new ArrayList<>(SIZE), mValues);
+        return CollectionHelper.addMid(new ArrayList<>(size), mValues);
     }
 
     @Benchmark
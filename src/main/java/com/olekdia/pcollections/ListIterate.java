@@ -15,11 +15,12 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
 
@@ -30,22 +31,20 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class ListIterate {
 
-    public static final int SIZE = 200_000;
+    @Param({"10", "1000", "200000", "1000000"})
+    public int size;
 
     volatile Lists mLists = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(ListIterate.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(ListIterate.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(ListIterate.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mLists = new Lists(SIZE);
+        mLists = new Lists(size);
     }
 
     @Benchmark
@@ -15,13 +15,15 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.javimmutable.collections.JImmutableList;
 import org.javimmutable.collections.JImmutableStack;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.ConsPStack;
 import org.pcollections.TreePVector;
 
@@ -34,27 +36,44 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class ListRemoveMiddle {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000"})
+    public int size;
 
     volatile Lists mLists = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(ListRemoveMiddle.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(ListRemoveMiddle.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(ListRemoveMiddle.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mLists = new Lists(SIZE);
+        mLists = new Lists(size);
+    }
+
+    /**
+     * Puts the removed items back before every invocation, like {@link MapRemove#refill}
+     */
+    @Setup(Level.Invocation)
+    public void refill(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark();
+        switch (benchmark.substring(benchmark.lastIndexOf('.') + 1)) {
+            case "ArrayList":
+                CollectionHelper.refill(mLists.mArrayList, mLists.mArray);
+                break;
+            case "Stack":
+                CollectionHelper.refill(mLists.mStack, mLists.mArray);
+                break;
+            case "LinkedList":
+                CollectionHelper.refill(mLists.mLinkedList, mLists.mArray);
+                break;
+        }
     }
 
     @Benchmark
     public Object ArrayList() {
-        for (int i = SIZE - 100; i >= SIZE / 4; i--) {
+        for (int i = size - size / 1000; i >= size / 4; i--) {
             mLists.mArrayList.remove(mLists.mArray[i / 2]);
         }
         return mLists.mArrayList;
@@ -62,7 +81,7 @@ public class ListRemoveMiddle {
 
     @Benchmark
     public Object Stack() {
-        for (int i = SIZE - 100; i >= SIZE / 4; i--) {
+        for (int i = size - size / 1000; i >= size / 4; i--) {
             mLists.mStack.remove(mLists.mArray[i / 2]);
         }
         return mLists.mStack;
@@ -70,7 +89,7 @@ public class ListRemoveMiddle {
 
     @Benchmark
     public Object LinkedList() {
-        for (int i = SIZE - 100; i >= SIZE / 4; i--) {
+        for (int i = size - size / 1000; i >= size / 4; i--) {
             mLists.mLinkedList.remove(mLists.mArray[i / 2]);
         }
         return mLists.mLinkedList;
@@ -79,7 +98,7 @@ public class ListRemoveMiddle {
     @Benchmark
     public Object ConsPStack() {
         ConsPStack<Integer> l = mLists.mConsPStack;
-        for (int i = SIZE - 100; i >= SIZE / 4; i--) {
+        for (int i = size - size / 1000; i >= size / 4; i--) {
             l = l.minus(mLists.mArray[i / 2]);
         }
 
@@ -89,7 +108,7 @@ public class ListRemoveMiddle {
     @Benchmark
     public Object TreePVector() {
         TreePVector<Integer> l = mLists.mTreePVector;
-        for (int i = SIZE - 100; i >= SIZE / 4; i--) {
+        for (int i = size - size / 1000; i >= size / 4; i--) {
             l = l.minus(mLists.mArray[i / 2]);
         }
 
@@ -99,7 +118,7 @@ public class ListRemoveMiddle {
     @Benchmark
     public Object JImmutableList() {
         JImmutableList<Integer> l = mLists.mJImmutableList;
-        for (int i = SIZE - 100; i >= SIZE / 4; i--) {
+        for (int i = size - size / 1000; i >= size / 4; i--) {
             l = l.delete(mLists.mArray[i / 2]);
         }
 
@@ -15,8 +15,11 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import androidx.collection.ArrayMap;
 import androidx.collection.SparseArrayCompat;
+import com.olekdia.primitives.OffHeapIntIntMap;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.javimmutable.collections.util.JImmutables;
@@ -24,7 +27,6 @@ import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.*;
 
 import java.util.*;
@@ -37,26 +39,34 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class MapAppend {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
 
     volatile Integer[] mArray = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(MapAppend.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(MapAppend.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(MapAppend.class, new Runner(opt).run()));
+    }
+
+    @State(Scope.Thread)
+    public static class OffHeap {
+        OffHeapIntIntMap mMap;
+
+        @Setup
+        public void setup(final MapAppend benchmark) {
+            mMap = new OffHeapIntIntMap(benchmark.size);
+        }
     }
 
     @Setup
     public void setup() {
-        mArray = new Integer[SIZE];
+        mArray = new Integer[size];
 
         final Random random = new Random();
-        for (int i = 0; i < SIZE; i++) {
-            mArray[i] = Integer.valueOf(random.nextInt(SIZE));
+        for (int i = 0; i < size; i++) {
+            mArray[i] = Integer.valueOf(random.nextInt(size));
         }
     }
 
@@ -85,6 +95,17 @@ public class MapAppend {
         return CollectionHelper.put(new SparseArrayCompat<Integer>(), mArray);
     }
 
+    /**
+     * Unlike the other rows, this one doesn't create a map: the native memory of direct buffers
+     * is released only after a GC, so with a new map per op {@code Bits.reserveMemory} would call
+     * System.gc() in the middle of the measurement. The row measures clear() of a table presized
+     * for {@code size} entries plus the puts, which never rehash.
+     */
+    @Benchmark
+    public Object OffHeapIntIntMap(final OffHeap offHeap) {
+        return CollectionHelper.refill(offHeap.mMap, mArray);
+    }
+
     @Benchmark
     public Object HashPMap() {
         return CollectionHelper.plus(HashTreePMap.empty(), mArray);
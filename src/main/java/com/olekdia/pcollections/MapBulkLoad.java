@@ -0,0 +1,147 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.javimmutable.collections.util.JImmutables;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.pcollections.HashTreePMap;
+import org.pcollections.IntTreePMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading a whole map at once: copy constructors and putAll, builders with a single build,
+ * a mutable fill frozen with toImmutable, plusAll / assignAll of the persistent maps.
+ * The one at a time inserts of {@link MapAppend} are kept for some of them
+ * ({@code Put}, {@code Plus}, {@code Assign}), as the baseline.
+ *
+ * Keys are distinct ints in random order, the source is a HashMap of them.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class MapBulkLoad {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private volatile Object[] mKeys = null;
+    private volatile Integer[] mValues = null;
+    private volatile Map<Integer, Integer> mSource = null;
+    private volatile TreeMap<Integer, Integer> mSortedSource = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(MapBulkLoad.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(MapBulkLoad.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        mKeys = Keys.create(Keys.RANDOM_INT, size);
+        mValues = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mValues[i] = Integer.valueOf(i);
+        }
+        mSource = CollectionHelper.put(new HashMap<>(), mKeys, mValues);
+        mSortedSource = new TreeMap<>(mSource);
+    }
+
+    @Benchmark
+    public Object HashMapPut() {
+        return CollectionHelper.put(new HashMap<>(), mKeys, mValues);
+    }
+
+    @Benchmark
+    public Object HashMapPutAll() {
+        return new HashMap<>(mSource);
+    }
+
+    @Benchmark
+    public Object TreeMapPutAll() {
+        return new TreeMap<>(mSource);
+    }
+
+    /**
+     * A sorted source is linked into a balanced tree in linear time, without comparisons
+     */
+    @Benchmark
+    public Object TreeMapFromSorted() {
+        return new TreeMap<>(mSortedSource);
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedMapPutAll() {
+        return UnifiedMap.newMap(mSource);
+    }
+
+    @Benchmark
+    public Object EclipseToImmutable() {
+        return CollectionHelper.put(UnifiedMap.newMap(size), mKeys, mValues).toImmutable();
+    }
+
+    @Benchmark
+    public Object GuavaImmutableMapBuilder() {
+        return CollectionHelper.put(com.google.common.collect.ImmutableMap.builder(), mKeys, mValues);
+    }
+
+    @Benchmark
+    public Object GuavaImmutableMapCopyOf() {
+        return com.google.common.collect.ImmutableMap.copyOf(mSource);
+    }
+
+    @Benchmark
+    public Object HashPMapPlus() {
+        return CollectionHelper.plus(HashTreePMap.empty(), mKeys, mValues);
+    }
+
+    @Benchmark
+    public Object HashPMapPlusAll() {
+        return HashTreePMap.<Integer, Integer>empty().plusAll(mSource);
+    }
+
+    @Benchmark
+    public Object IntTreePMapPlusAll() {
+        return IntTreePMap.<Integer>empty().plusAll(mSource);
+    }
+
+    @Benchmark
+    public Object JImmutableHashMapAssign() {
+        return CollectionHelper.put(JImmutables.map(), mKeys, mValues);
+    }
+
+    @Benchmark
+    public Object JImmutableHashMapAssignAll() {
+        return JImmutables.<Integer, Integer>map().assignAll(mSource);
+    }
+
+    @Benchmark
+    public Object JImmutableMapBuilder() {
+        return CollectionHelper.put(JImmutables.mapBuilder(), mKeys, mValues);
+    }
+}
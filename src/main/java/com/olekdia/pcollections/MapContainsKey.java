@@ -15,11 +15,12 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
 
@@ -30,24 +31,22 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class MapContainsKey {
 
-    public static final int SIZE = 500_000;
+    @Param({"10", "1000", "100000", "500000", "1000000"})
+    public int size;
 
     private volatile Maps mMaps = null;
     private volatile Integer mSearchedObject = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(MapContainsKey.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(MapContainsKey.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerOp(ResultStore.save(MapContainsKey.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mMaps = new Maps(SIZE);
-        mSearchedObject = mMaps.mArray[388_888];
+        mMaps = new Maps(size);
+        mSearchedObject = mMaps.mArray[size * 7 / 9];
     }
 
     @Benchmark
@@ -75,6 +74,11 @@ public class MapContainsKey {
         return mMaps.mSparseArray.containsKey(mSearchedObject);
     }
 
+    @Benchmark
+    public boolean OffHeapIntIntMap() {
+        return mMaps.mOffHeapIntIntMap.containsKey(mSearchedObject);
+    }
+
     @Benchmark
     public boolean HashPMap() {
         return mMaps.mHashPMap.containsKey(mSearchedObject);
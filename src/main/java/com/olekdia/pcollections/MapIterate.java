@@ -15,11 +15,13 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.primitives.IntCollectionHelper;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
 
@@ -30,22 +32,20 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class MapIterate {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
 
     private volatile Maps mMaps = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(MapIterate.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(MapIterate.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(MapIterate.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mMaps = new Maps(SIZE);
+        mMaps = new Maps(size);
     }
 
     @Benchmark
@@ -68,15 +68,20 @@ public class MapIterate {
         return CollectionHelper.iterate(mMaps.mArrayMap.values());
     }
 
-   @Benchmark
+    @Benchmark
     public Object SparseArray() {
         long sum = 0L;
-        for (int i = 0; i <= mMaps.mSparseArray.size(); i++) {
+        for (int i = 0; i < mMaps.mSparseArray.size(); i++) {
             sum += mMaps.mSparseArray.valueAt(i);
         }
         return sum;
     }
 
+    @Benchmark
+    public Object OffHeapIntIntMap() {
+        return IntCollectionHelper.iterate(mMaps.mOffHeapIntIntMap.valuesIterator());
+    }
+
     @Benchmark
     public Object HashPMap() {
         return CollectionHelper.iterate(mMaps.mHashPMap.values());
@@ -15,14 +15,21 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
-import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
@@ -31,130 +38,157 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class MapRandomAccess {
 
-    public static final int SIZE = 100_000;
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL_INT, Keys.RANDOM_INT, Keys.SHORT_STRING, Keys.UUID, Keys.POOR_HASH})
+    public String keys;
+
+    @Param({AccessPattern.UNIFORM, AccessPattern.ZIPF})
+    public String access;
 
-    private volatile Random mRandom = null;
     private volatile Maps mMaps = null;
 
+    /**
+     * Runs the lookups with 1, 2, 4, ... cores threads. The maps are shared and only read,
+     * every thread replays its own index stream.
+     * The whole matrix runs with 1 thread, more threads run only 100 000 int and string keys,
+     * which is enough to see how the lookups scale.
+     */
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(MapRandomAccess.class.getSimpleName())
-                .forks(1)
-                .build();
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            final ChainedOptionsBuilder builder = BenchmarkOptions.of(MapRandomAccess.class)
+                    .threads(threads);
+            if (threads > 1) {
+                builder.param("size", "100000")
+                        .param("keys", Keys.SEQUENTIAL_INT, Keys.SHORT_STRING);
+            }
+            Options opt = builder.build();
+
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(MapRandomAccess.class, results);
+
+        ScalingReport.printPerElement(
+                results.stream()
+                        .filter(r -> r.getParams().getThreads() == 1)
+                        .collect(Collectors.toList())
+        );
+        ContentionReport.print(results);
+    }
 
-        new Runner(opt).run();
+    @State(Scope.Thread)
+    public static class Lookups {
+        IndexStream mStream;
+
+        @Setup
+        public void setup(final MapRandomAccess benchmark, final ThreadParams thread) {
+            mStream = new IndexStream(benchmark.access, benchmark.size, thread.getThreadIndex());
+        }
     }
 
     @Setup
     public void setup() {
-        mRandom = new Random();
-        mMaps = new Maps(SIZE);
-    }
-
-    @Benchmark
-    public Object HashMap() {
-        Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mHashMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
-        }
-        return value;
+        mMaps = new Maps(size, keys);
     }
 
     @Benchmark
-    public Object LinkedHashMap() {
+    public Object HashMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mLinkedHashMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mHashMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object TreeMap() {
+    public Object LinkedHashMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mTreeMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mLinkedHashMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object ArrayMap() {
+    public Object TreeMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mArrayMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mTreeMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
-   @Benchmark
-    public Object SparseArray() {
-       Integer value = null;
-       for (int i = 0; i < SIZE; i++) {
-           value = mMaps.mSparseArray.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
-       }
-       return value;
-    }
-
     @Benchmark
-    public Object HashPMap() {
+    public Object ArrayMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mHashPMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mArrayMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object IntTreePMap() {
+    public Object HashPMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mIntTreePMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mHashPMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object JImmutableHashMap() {
+    public Object JImmutableHashMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mJImmutableHashMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mJImmutableHashMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object JImmutableTreeMap() {
+    public Object JImmutableTreeMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mJImmutableTreeMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mJImmutableTreeMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object EclipseMutableMap() {
+    public Object EclipseMutableMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mEclipseMutableMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mEclipseMutableMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object EclipseImmutableMap() {
+    public Object EclipseImmutableMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mEclipseImmutableMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mEclipseImmutableMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
 
     @Benchmark
-    public Object GuavaImmutableMap() {
+    public Object GuavaImmutableMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
         Integer value = null;
-        for (int i = 0; i < SIZE; i++) {
-            value = mMaps.mGuavaImmutableMap.get(mMaps.mArray[mRandom.nextInt(SIZE)]);
+        for (int i = 0; i < size; i++) {
+            value = mMaps.mGuavaImmutableMap.get(mMaps.mKeys[stream.next()]);
         }
         return value;
     }
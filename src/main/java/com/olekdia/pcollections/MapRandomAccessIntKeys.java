@@ -0,0 +1,124 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import androidx.collection.SparseArrayCompat;
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.primitives.OffHeapIntIntMap;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.pcollections.IntTreePMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The maps of {@link MapRandomAccess} which take int keys only, so they run with the int key types alone.
+ * Same index streams and thread counts, compare with the HashMap row of {@link MapRandomAccess}.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class MapRandomAccessIntKeys {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({Keys.SEQUENTIAL_INT, Keys.RANDOM_INT})
+    public String keys;
+
+    @Param({AccessPattern.UNIFORM, AccessPattern.ZIPF})
+    public String access;
+
+    private volatile Maps mMaps = null;
+
+    public static void main(String[] args) throws RunnerException {
+        final List<RunResult> results = new ArrayList<>();
+        for (int threads : ContentionReport.threadCounts()) {
+            Options opt = BenchmarkOptions.of(MapRandomAccessIntKeys.class)
+                    .threads(threads)
+                    .build();
+
+            results.addAll(new Runner(opt).run());
+        }
+        ResultStore.save(MapRandomAccessIntKeys.class, results);
+
+        ScalingReport.printPerElement(
+                results.stream()
+                        .filter(r -> r.getParams().getThreads() == 1)
+                        .collect(Collectors.toList())
+        );
+        ContentionReport.print(results);
+    }
+
+    @State(Scope.Thread)
+    public static class Lookups {
+        IndexStream mStream;
+
+        @Setup
+        public void setup(final MapRandomAccessIntKeys benchmark, final ThreadParams thread) {
+            mStream = new IndexStream(benchmark.access, benchmark.size, thread.getThreadIndex());
+        }
+    }
+
+    @Setup
+    public void setup() {
+        mMaps = new Maps(size, keys);
+    }
+
+    @Benchmark
+    public Object SparseArray(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
+        final SparseArrayCompat<Integer> map = mMaps.mSparseArray;
+        Integer value = null;
+        for (int i = 0; i < size; i++) {
+            value = map.get((Integer) mMaps.mKeys[stream.next()]);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public int OffHeapIntIntMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
+        final OffHeapIntIntMap map = mMaps.mOffHeapIntIntMap;
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            value = map.get((Integer) mMaps.mKeys[stream.next()]);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Object IntTreePMap(final Lookups lookups) {
+        final IndexStream stream = lookups.mStream;
+        final IntTreePMap<Integer> map = mMaps.mIntTreePMap;
+        Integer value = null;
+        for (int i = 0; i < size; i++) {
+            value = map.get((Integer) mMaps.mKeys[stream.next()]);
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -15,14 +15,16 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.javimmutable.collections.JImmutableMap;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.HashPMap;
 import org.pcollections.IntTreePMap;
 
@@ -37,29 +39,61 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class MapRemove {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000"})
+    public int size;
 
     private volatile Random mRandom = null;
     private volatile Maps mMaps = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(MapRemove.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(MapRemove.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(MapRemove.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
         mRandom = new Random();
-        mMaps = new Maps(SIZE);
+        mMaps = new Maps(size);
+    }
+
+    /**
+     * The benchmarks empty the shared fixture, so the removed entries are put back
+     * before every invocation, and each one starts from a full map.
+     * Invocation level setup is not counted in the score, only the mutable map
+     * of the running benchmark is refilled, persistent ones never change.
+     */
+    @Setup(Level.Invocation)
+    public void refill(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark();
+        switch (benchmark.substring(benchmark.lastIndexOf('.') + 1)) {
+            case "HashMap":
+                CollectionHelper.refill(mMaps.mHashMap, mMaps.mArray);
+                break;
+            case "LinkedHashMap":
+                CollectionHelper.refill(mMaps.mLinkedHashMap, mMaps.mArray);
+                break;
+            case "TreeMap":
+                CollectionHelper.refill(mMaps.mTreeMap, mMaps.mArray);
+                break;
+            case "ArrayMap":
+                CollectionHelper.refill(mMaps.mArrayMap, mMaps.mArray);
+                break;
+            case "SparseArray":
+                CollectionHelper.refill(mMaps.mSparseArray, mMaps.mArray);
+                break;
+            case "OffHeapIntIntMap":
+                CollectionHelper.refill(mMaps.mOffHeapIntIntMap, mMaps.mArray);
+                break;
+            case "EclipseMutableMap":
+                CollectionHelper.refill(mMaps.mEclipseMutableMap, mMaps.mArray);
+                break;
+        }
     }
 
     @Benchmark
     public Object HashMap() {
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mMaps.mHashMap.remove(mMaps.mArray[i / 2]);
         }
         return mMaps.mHashMap;
@@ -67,7 +101,7 @@ public class MapRemove {
 
     @Benchmark
     public Object LinkedHashMap() {
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mMaps.mLinkedHashMap.remove(mMaps.mArray[i / 2]);
         }
         return mMaps.mLinkedHashMap;
@@ -75,7 +109,7 @@ public class MapRemove {
 
     @Benchmark
     public Object TreeMap() {
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mMaps.mTreeMap.remove(mMaps.mArray[i / 2]);
         }
         return mMaps.mTreeMap;
@@ -83,7 +117,7 @@ public class MapRemove {
 
     @Benchmark
     public Object ArrayMap() {
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mMaps.mArrayMap.remove(mMaps.mArray[i / 2]);
         }
         return mMaps.mArrayMap;
@@ -91,16 +125,24 @@ public class MapRemove {
 
    @Benchmark
     public Object SparseArray() {
-       for (int i = SIZE - 100; i >= 0; i--) {
+       for (int i = size - size / 1000; i >= 0; i--) {
            mMaps.mSparseArray.remove(mMaps.mArray[i / 2]);
        }
        return mMaps.mSparseArray;
     }
 
+    @Benchmark
+    public Object OffHeapIntIntMap() {
+        for (int i = size - size / 1000; i >= 0; i--) {
+            mMaps.mOffHeapIntIntMap.remove(mMaps.mArray[i / 2]);
+        }
+        return mMaps.mOffHeapIntIntMap;
+    }
+
     @Benchmark
     public Object HashPMap() {
         HashPMap<Object, Integer> map = mMaps.mHashPMap;
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             map = map.minus(mMaps.mArray[i / 2]);
         }
         return map;
@@ -109,7 +151,7 @@ public class MapRemove {
     @Benchmark
     public Object IntTreePMap() {
         IntTreePMap<Integer> map = mMaps.mIntTreePMap;
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             map = map.minus(mMaps.mArray[i / 2]);
         }
         return map;
@@ -118,7 +160,7 @@ public class MapRemove {
     @Benchmark
     public Object JImmutableHashMap() {
         JImmutableMap<Object, Integer> map = mMaps.mJImmutableHashMap;
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             map = map.delete(mMaps.mArray[i / 2]);
         }
         return map;
@@ -127,7 +169,7 @@ public class MapRemove {
     @Benchmark
     public Object JImmutableTreeMap() {
         JImmutableMap<Object, Integer> map = mMaps.mJImmutableTreeMap;
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             map = map.delete(mMaps.mArray[i / 2]);
         }
         return map;
@@ -135,7 +177,7 @@ public class MapRemove {
 
     @Benchmark
     public Object EclipseMutableMap() {
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mMaps.mEclipseMutableMap.remove(mMaps.mArray[i / 2]);
         }
         return mMaps.mEclipseMutableMap;
@@ -145,7 +187,7 @@ public class MapRemove {
     public Object EclipseImmutableMap() {
         ImmutableMap<Object, Integer> map = mMaps.mEclipseImmutableMap;
         MutableMap<Object, Integer> mmap = map.toMap();
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mmap.remove(mMaps.mArray[i / 2]);
             map = mmap.toImmutable();
         }
@@ -156,7 +198,7 @@ public class MapRemove {
     public Object GuavaImmutableMap() {
         com.google.common.collect.ImmutableMap<Object, Integer> map = mMaps.mGuavaImmutableMap;
         HashMap<Object, Integer> mmap = new HashMap<>(map);
-        for (int i = SIZE - 100; i >= 0; i--) {
+        for (int i = size - size / 1000; i >= 0; i--) {
             mmap.remove(mMaps.mArray[i / 2]);
             map = new com.google.common.collect.ImmutableMap.Builder().putAll(mmap).build();
         }
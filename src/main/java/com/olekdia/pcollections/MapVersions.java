@@ -0,0 +1,107 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import com.olekdia.runner.ScoreReport;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations between versions of a big map, which differ by a few keys:
+ * deriving a new version, comparing two versions with the same entries, and merging two versions,
+ * either by replaying the delta of one over the other, or by putting all of its entries.
+ *
+ * The memory taken by all the versions together is measured by
+ * {@code com.olekdia.footprint.VersionFootprint}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class MapVersions {
+
+    @Param({
+            VersionedMaps.HASH_PMAP,
+            VersionedMaps.INT_TREE_PMAP,
+            VersionedMaps.JIMMUTABLE_HASH_MAP,
+            VersionedMaps.ECLIPSE_IMMUTABLE_MAP,
+            VersionedMaps.COPY_ON_WRITE_HASH_MAP
+    })
+    public String map;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"16"})
+    public int versions;
+
+    @Param({"10"})
+    public int delta;
+
+    private volatile Versions mVersions = null;
+    private volatile VersionedMap mCopyOfFirst = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(MapVersions.class).build();
+
+        ScoreReport.print(ResultStore.save(MapVersions.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mVersions = new Versions(map, size, versions, delta);
+        // Same entries as the first version, but built on its own, so equals can't stop at the same reference
+        mCopyOfFirst = mVersions.mBase.with(mVersions.mDeltaKeys[0], mVersions.mDeltaValues[0]);
+    }
+
+    @Benchmark
+    public Object derive() {
+        return mVersions.mBase.with(mVersions.mDeltaKeys[0], mVersions.mDeltaValues[0]);
+    }
+
+    @Benchmark
+    public boolean equalVersions() {
+        return mVersions.mVersions[0].sameEntries(mCopyOfFirst);
+    }
+
+    @Benchmark
+    public boolean differentVersions() {
+        return mVersions.mVersions[0].sameEntries(mVersions.mVersions[1]);
+    }
+
+    /**
+     * Merging, when the delta of the other version is known
+     */
+    @Benchmark
+    public Object mergeDelta() {
+        return mVersions.mVersions[0].with(mVersions.mDeltaKeys[1], mVersions.mDeltaValues[1]);
+    }
+
+    /**
+     * Merging, when only the other version itself is at hand
+     */
+    @Benchmark
+    public Object mergeAll() {
+        return mVersions.mVersions[0].withAll(mVersions.mVersions[1]);
+    }
+}
@@ -2,6 +2,7 @@ package com.olekdia.pcollections;
 
 import androidx.collection.ArrayMap;
 import androidx.collection.SparseArrayCompat;
+import com.olekdia.primitives.OffHeapIntIntMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
@@ -20,11 +21,13 @@ import java.util.TreeMap;
 public class Maps {
 
     public final Integer[] mArray;
+    public final Object[] mKeys;
     public final HashMap<Object, Integer> mHashMap;
     public final LinkedHashMap<Object, Integer> mLinkedHashMap;
     public final TreeMap<Object, Integer> mTreeMap;
     public final ArrayMap<Object, Integer> mArrayMap;
     public final SparseArrayCompat<Integer> mSparseArray;
+    public final OffHeapIntIntMap mOffHeapIntIntMap;
     public final HashPMap<Object, Integer> mHashPMap;
     public final IntTreePMap<Integer> mIntTreePMap;
     public final JImmutableMap<Object, Integer> mJImmutableHashMap;
@@ -34,22 +37,33 @@ public class Maps {
     public final com.google.common.collect.ImmutableMap<Object, Integer> mGuavaImmutableMap;
 
     public Maps(final int size) {
+        this(size, Keys.SEQUENTIAL_INT);
+    }
+
+    /**
+     * @param keys one of {@link Keys} types, maps with int keys only (SparseArray, IntTreePMap, OffHeapIntIntMap)
+     *             stay null for the types which are not ints, see {@link MapRandomAccessIntKeys}
+     */
+    public Maps(final int size, final String keys) {
         mArray = new Integer[size];
         for (int i = 0; i < size; i++) {
             mArray[i] = Integer.valueOf(i);
         }
+        mKeys = keys.equals(Keys.SEQUENTIAL_INT) ? mArray : Keys.create(keys, size);
+        final boolean intKeys = Keys.isInt(keys);
+
+        mHashMap = CollectionHelper.put(new HashMap<>(size), mKeys, mArray);
 
-        mHashMap = CollectionHelper.put(new HashMap<>(size), mArray);
-
-        mLinkedHashMap = CollectionHelper.put(new LinkedHashMap<>(size), mArray);
-        mTreeMap = CollectionHelper.put(new TreeMap<>(), mArray);
-        mArrayMap = CollectionHelper.put(new ArrayMap<>(), mArray);
-        mSparseArray = CollectionHelper.put(new SparseArrayCompat<>(size), mArray);
-        mHashPMap = (HashPMap) CollectionHelper.plus(HashTreePMap.empty(), mArray);
-        mIntTreePMap = (IntTreePMap) CollectionHelper.plus(IntTreePMap.empty(), mArray);
-        mJImmutableHashMap = CollectionHelper.put(JImmutables.map(), mArray);
-        mJImmutableTreeMap = CollectionHelper.put(JImmutables.sortedMap(), mArray);
-        mEclipseMutableMap = (MutableMap) CollectionHelper.put(new UnifiedMap<>(), mArray);
+        mLinkedHashMap = CollectionHelper.put(new LinkedHashMap<>(size), mKeys, mArray);
+        mTreeMap = CollectionHelper.put(new TreeMap<>(), mKeys, mArray);
+        mArrayMap = CollectionHelper.putInHashOrder(new ArrayMap<>(size), mKeys, mArray);
+        mSparseArray = intKeys ? CollectionHelper.putInKeyOrder(new SparseArrayCompat<>(size), (Integer[]) mKeys) : null;
+        mOffHeapIntIntMap = intKeys ? CollectionHelper.put(new OffHeapIntIntMap(size), (Integer[]) mKeys) : null;
+        mHashPMap = (HashPMap) CollectionHelper.plus(HashTreePMap.empty(), mKeys, mArray);
+        mIntTreePMap = intKeys ? (IntTreePMap) CollectionHelper.plus(IntTreePMap.empty(), mKeys) : null;
+        mJImmutableHashMap = CollectionHelper.put(JImmutables.map(), mKeys, mArray);
+        mJImmutableTreeMap = CollectionHelper.put(JImmutables.sortedMap(), mKeys, mArray);
+        mEclipseMutableMap = CollectionHelper.put(new UnifiedMap<>(), mKeys, mArray);
         mEclipseImmutableMap = mEclipseMutableMap.toImmutable();
         mGuavaImmutableMap = new com.google.common.collect.ImmutableMap.Builder().putAll(mHashMap).build();
     }
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import com.olekdia.concurrent.ContentionReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sums the elements of every collection in {@link Lists}, {@link Sets} and the values of {@link Maps}
+ * in parallel, on a pool of {@code parallelism} threads: through a parallel stream and through
+ * a fork-join task, which splits the spliterator itself. The {@code sequential} sum is the baseline.
+ *
+ * A collection whose spliterator doesn't split stays close to the sequential sum at any parallelism.
+ * SparseArray and OffHeapIntIntMap are not Iterable and are left out.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ParallelIterate {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({
+            "ArrayList", "Stack", "LinkedList", "ConsPStack", "TreePVector", "JImmutableList", "JImmutableStack",
+            "HashSet", "TreeSet", "ArraySet", "MapPSet", "JImmutableHashSet", "JImmutableTreeSet",
+            "HashMap", "LinkedHashMap", "TreeMap", "ArrayMap", "HashPMap", "IntTreePMap",
+            "JImmutableHashMap", "JImmutableTreeMap", "EclipseMutableMap", "EclipseImmutableMap", "GuavaImmutableMap"
+    })
+    public String collection;
+
+    /**
+     * main() replaces it with 1, 2, 4, ... cores
+     */
+    @Param({"1"})
+    public int parallelism;
+
+    private volatile Iterable<Integer> mSource = null;
+    private volatile ForkJoinPool mPool = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(ParallelIterate.class)
+                .param("parallelism", ContentionReport.threadCounts().stream()
+                        .map(String::valueOf)
+                        .toArray(String[]::new))
+                .build();
+
+        ScalingReport.printPerElement(
+                ResultStore.save(ParallelIterate.class, new Runner(opt).run()),
+                "parallelism"
+        );
+    }
+
+    @Setup
+    public void setup() {
+        mSource = source(collection, size);
+        mPool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mPool.shutdown();
+    }
+
+    @Benchmark
+    public long sequential() {
+        return CollectionHelper.iterate(mSource);
+    }
+
+    /**
+     * A parallel stream started inside a pool runs on that pool, not on the common one
+     */
+    @Benchmark
+    public long parallelStream() {
+        return mPool.submit(
+                () -> StreamSupport.stream(mSource.spliterator(), true)
+                        .mapToLong(Integer::longValue)
+                        .sum()
+        ).join();
+    }
+
+    @Benchmark
+    public long forkJoinSum() {
+        final Spliterator<Integer> spliterator = mSource.spliterator();
+        // The same leaf size as the streams pick: about 4 leaves per thread
+        final long threshold = Math.max(1L, size / (parallelism * 4L));
+        return mPool.invoke(new SpliteratorSum(spliterator, threshold));
+    }
+
+    private static Iterable<Integer> source(final String collection, final int size) {
+        switch (collection) {
+            case "ArrayList":
+                return new Lists(size).mArrayList;
+            case "Stack":
+                return new Lists(size).mStack;
+            case "LinkedList":
+                return new Lists(size).mLinkedList;
+            case "ConsPStack":
+                return new Lists(size).mConsPStack;
+            case "TreePVector":
+                return new Lists(size).mTreePVector;
+            case "JImmutableList":
+                return new Lists(size).mJImmutableList;
+            case "JImmutableStack":
+                return new Lists(size).mJImmutableStack;
+            case "HashSet":
+                return new Sets(size).mHashSet;
+            case "TreeSet":
+                return new Sets(size).mTreeSet;
+            case "ArraySet":
+                return new Sets(size).mArraySet;
+            case "MapPSet":
+                return new Sets(size).mMapPSet;
+            case "JImmutableHashSet":
+                return new Sets(size).mJImmutableHashSet;
+            case "JImmutableTreeSet":
+                return new Sets(size).mJImmutableTreeSet;
+            case "HashMap":
+                return new Maps(size).mHashMap.values();
+            case "LinkedHashMap":
+                return new Maps(size).mLinkedHashMap.values();
+            case "TreeMap":
+                return new Maps(size).mTreeMap.values();
+            case "ArrayMap":
+                return new Maps(size).mArrayMap.values();
+            case "HashPMap":
+                return new Maps(size).mHashPMap.values();
+            case "IntTreePMap":
+                return new Maps(size).mIntTreePMap.values();
+            case "JImmutableHashMap":
+                return new Maps(size).mJImmutableHashMap.values();
+            case "JImmutableTreeMap":
+                return new Maps(size).mJImmutableTreeMap.values();
+            case "EclipseMutableMap":
+                return new Maps(size).mEclipseMutableMap.values();
+            case "EclipseImmutableMap":
+                return new Maps(size).mEclipseImmutableMap;
+            case "GuavaImmutableMap":
+                return new Maps(size).mGuavaImmutableMap.values();
+            default:
+                throw new IllegalArgumentException("Unknown collection: " + collection);
+        }
+    }
+
+    /**
+     * Splits until the parts are small enough or the spliterator refuses, then sums a part sequentially
+     */
+    static class SpliteratorSum extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<Integer> mSpliterator;
+        private final long mThreshold;
+
+        SpliteratorSum(final Spliterator<Integer> spliterator, final long threshold) {
+            mSpliterator = spliterator;
+            mThreshold = threshold;
+        }
+
+        @Override
+        protected Long compute() {
+            final Spliterator<Integer> left;
+            if (mSpliterator.estimateSize() > mThreshold && (left = mSpliterator.trySplit()) != null) {
+                final SpliteratorSum forked = new SpliteratorSum(left, mThreshold);
+                forked.fork();
+                return new SpliteratorSum(mSpliterator, mThreshold).compute() + forked.join();
+            }
+
+            final long[] sum = {0L};
+            mSpliterator.forEachRemaining(e -> sum[0] += e);
+            return sum[0];
+        }
+    }
+}
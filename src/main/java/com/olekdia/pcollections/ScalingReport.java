@@ -0,0 +1,121 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import com.olekdia.runner.ScoreReport;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Prints the results of a size sweep as a markdown table: one row per collection,
+ * one column per value of the {@code size} param. When the GC profiler was on,
+ * a second table shows the allocated bytes the same way.
+ */
+public class ScalingReport {
+
+    public static final String PARAM_SIZE = "size";
+
+    /**
+     * For benchmarks that touch every element once per op (append, iterate, remove, ...),
+     * the score is divided by the size, so the rows show how the per-element cost changes.
+     */
+    public static void printPerElement(final Collection<RunResult> results) {
+        print(results, true);
+    }
+
+    /**
+     * For benchmarks that do a single lookup per op (contains, containsKey).
+     */
+    public static void printPerOp(final Collection<RunResult> results) {
+        print(results, false);
+    }
+
+    /**
+     * Per-element cost again, but with the columns of another integer param, like parallelism.
+     * The size becomes a part of the row name.
+     */
+    public static void printPerElement(final Collection<RunResult> results, final String columnParam) {
+        print(results, columnParam, true);
+    }
+
+    private static void print(final Collection<RunResult> results, final boolean perElement) {
+        print(results, PARAM_SIZE, perElement);
+    }
+
+    private static void print(final Collection<RunResult> results, final String columnParam, final boolean perElement) {
+        if (results.isEmpty()) return;
+
+        final String unit = results.iterator().next().getPrimaryResult().getScoreUnit();
+        printTable(results, columnParam, perElement, unit, r -> r.getPrimaryResult().getScore());
+        // Bytes/op of the GC profiler, only if it was on
+        printTable(results, columnParam, perElement, "B/op", ScoreReport::allocPerOp);
+    }
+
+    private static void printTable(
+            final Collection<RunResult> results,
+            final String columnParam,
+            final boolean perElement,
+            final String unit,
+            final Function<RunResult, Double> score
+    ) {
+        final TreeSet<Integer> columns = new TreeSet<>();
+        final Map<String, Map<Integer, Double>> rows = new LinkedHashMap<>();
+
+        for (RunResult r : results) {
+            final String columnValue = r.getParams().getParam(columnParam);
+            final String sizeParam = r.getParams().getParam(PARAM_SIZE);
+            final Double value = score.apply(r);
+            if (columnValue == null || sizeParam == null || value == null) continue;
+
+            final int column = Integer.parseInt(columnValue);
+            final int size = Integer.parseInt(sizeParam);
+            final String benchmark = r.getParams().getBenchmark();
+            // Other params, like the key type, make rows of their own
+            final StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+            for (String key : r.getParams().getParamsKeys()) {
+                if (key.equals(columnParam)) continue;
+                name.append(' ').append(key).append('=').append(r.getParams().getParam(key));
+            }
+
+            columns.add(column);
+            rows.computeIfAbsent(name.toString(), k -> new HashMap<>())
+                    .put(column, perElement ? value / size : value);
+        }
+        if (rows.isEmpty()) return;
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Collection \\ ").append(columnParam).append(", _")
+                .append(perElement ? unit.replace("/op", "/element") : unit).append("_ |");
+        for (Integer column : columns) sb.append(' ').append(column).append(" |");
+        sb.append('\n').append("| ------ |");
+        for (int i = 0; i < columns.size(); i++) sb.append(" ------ |");
+        sb.append('\n');
+
+        for (Map.Entry<String, Map<Integer, Double>> row : rows.entrySet()) {
+            sb.append("| ").append(row.getKey()).append(" |");
+            for (Integer column : columns) {
+                final Double value = row.getValue().get(column);
+                sb.append(' ').append(value == null ? "-" : String.format(Locale.US, "%.3f", value)).append(" |");
+            }
+            sb.append('\n');
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
@@ -15,13 +15,14 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import androidx.collection.ArraySet;
 import org.javimmutable.collections.util.JImmutables;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.HashTreePSet;
 
 import java.util.*;
@@ -34,26 +35,24 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class SetAppend {
 
-    public static final int SIZE = 1_000_000;
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
 
     volatile Object[] mValues = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(SetAppend.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(SetAppend.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(SetAppend.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mValues = new Object[SIZE];
+        mValues = new Object[size];
 
         Random random = new Random();
-        for (int i = 0; i < SIZE; i++) {
-            mValues[i] = Integer.valueOf(random.nextInt(SIZE));
+        for (int i = 0; i < size; i++) {
+            mValues[i] = Integer.valueOf(random.nextInt(size));
         }
     }
 
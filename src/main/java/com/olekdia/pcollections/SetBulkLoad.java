@@ -0,0 +1,134 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.pcollections;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.javimmutable.collections.util.JImmutables;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.pcollections.HashTreePSet;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The sets of {@link MapBulkLoad}: copy constructors and addAll, builders with a single build,
+ * a mutable fill frozen with toImmutable, plusAll / insertAll of the persistent sets.
+ * The one at a time adds of {@link SetAppend} are kept for some of them
+ * ({@code Add}, {@code Plus}, {@code Insert}), as the baseline.
+ *
+ * Elements are distinct ints in random order, the source is an ArrayList of them,
+ * so every set hashes or compares them on the way in.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class SetBulkLoad {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private volatile Integer[] mArray = null;
+    private volatile List<Integer> mSource = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(SetBulkLoad.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(SetBulkLoad.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mArray = Keys.randomInts(size);
+        mSource = new ArrayList<>(Arrays.asList(mArray));
+    }
+
+    @Benchmark
+    public Object HashSetAdd() {
+        return CollectionHelper.add(new HashSet<>(), mArray);
+    }
+
+    @Benchmark
+    public Object HashSetAddAll() {
+        final Set<Integer> set = new HashSet<>();
+        set.addAll(mSource);
+        return set;
+    }
+
+    @Benchmark
+    public Object HashSetCopy() {
+        return new HashSet<>(mSource);
+    }
+
+    @Benchmark
+    public Object TreeSetCopy() {
+        return new TreeSet<>(mSource);
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedSetCopy() {
+        return UnifiedSet.newSet(mSource);
+    }
+
+    @Benchmark
+    public Object EclipseToImmutable() {
+        return CollectionHelper.add(UnifiedSet.newSet(size), mArray).toImmutable();
+    }
+
+    @Benchmark
+    public Object GuavaImmutableSetBuilder() {
+        final com.google.common.collect.ImmutableSet.Builder<Integer> builder =
+                com.google.common.collect.ImmutableSet.builder();
+        for (Integer e : mArray) builder.add(e);
+        return builder.build();
+    }
+
+    @Benchmark
+    public Object GuavaImmutableSetCopyOf() {
+        return com.google.common.collect.ImmutableSet.copyOf(mSource);
+    }
+
+    @Benchmark
+    public Object MapPSetPlus() {
+        return CollectionHelper.plus(HashTreePSet.empty(), mArray);
+    }
+
+    @Benchmark
+    public Object MapPSetPlusAll() {
+        return HashTreePSet.<Integer>empty().plusAll(mSource);
+    }
+
+    @Benchmark
+    public Object JImmutableHashSetInsert() {
+        return CollectionHelper.add(JImmutables.set(), mArray);
+    }
+
+    @Benchmark
+    public Object JImmutableHashSetInsertAll() {
+        return JImmutables.<Integer>set().insertAll(mSource);
+    }
+
+    @Benchmark
+    public Object JImmutableTreeSetInsertAll() {
+        return JImmutables.<Integer>sortedSet().insertAll(mSource);
+    }
+}
@@ -15,11 +15,12 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
 
@@ -30,7 +31,8 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class SetContains {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
 
     private volatile Sets mSets = null;
 
@@ -38,18 +40,15 @@ public class SetContains {
 
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(SetContains.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(SetContains.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerOp(ResultStore.save(SetContains.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mSets = new Sets(SIZE);
-        mSearchedObject = mSets.mArray[88888];
+        mSets = new Sets(size);
+        mSearchedObject = mSets.mArray[size * 8 / 9];
     }
 
     @Benchmark
@@ -15,14 +15,16 @@
  */
 package com.olekdia.pcollections;
 
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
 import org.javimmutable.collections.JImmutableMultiset;
 import org.javimmutable.collections.JImmutableSet;
 import org.javimmutable.collections.tree.JImmutableTreeSet;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.pcollections.MapPSet;
 
 import java.util.concurrent.TimeUnit;
@@ -34,27 +36,44 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.AverageTime)
 public class SetRemove {
 
-    public static final int SIZE = 100_000;
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
 
     private volatile Sets mSets = null;
 
     public static void main(String[] args) throws RunnerException {
-        Options opt = new OptionsBuilder()
-                .include(SetRemove.class.getSimpleName())
-                .forks(1)
-                .build();
+        Options opt = BenchmarkOptions.of(SetRemove.class).build();
 
-        new Runner(opt).run();
+        ScalingReport.printPerElement(ResultStore.save(SetRemove.class, new Runner(opt).run()));
     }
 
     @Setup
     public void setup() {
-        mSets = new Sets(SIZE);
+        mSets = new Sets(size);
+    }
+
+    /**
+     * Puts the removed items back before every invocation, like {@link MapRemove#refill}
+     */
+    @Setup(Level.Invocation)
+    public void refill(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark();
+        switch (benchmark.substring(benchmark.lastIndexOf('.') + 1)) {
+            case "HashSet":
+                CollectionHelper.refill(mSets.mHashSet, mSets.mArray);
+                break;
+            case "TreeSet":
+                CollectionHelper.refill(mSets.mTreeSet, mSets.mArray);
+                break;
+            case "ArraySet":
+                CollectionHelper.refill(mSets.mArraySet, mSets.mArray);
+                break;
+        }
     }
 
     @Benchmark
     public Object HashSet() {
-        for (int i = SIZE - 100; i >= SIZE / 2; i--) {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
             mSets.mHashSet.remove(mSets.mArray[i / 2]);
         }
         return mSets.mHashSet;
@@ -62,7 +81,7 @@ public class SetRemove {
 
     @Benchmark
     public Object TreeSet() {
-        for (int i = SIZE - 100; i >= SIZE / 2; i--) {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
             mSets.mTreeSet.remove(mSets.mArray[i / 2]);
         }
         return mSets.mTreeSet;
@@ -70,7 +89,7 @@ public class SetRemove {
 
     @Benchmark
     public Object ArraySet() {
-        for (int i = SIZE - 100; i >= SIZE / 2; i--) {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
             mSets.mArraySet.remove(mSets.mArray[i / 2]);
         }
         return mSets.mArraySet;
@@ -79,7 +98,7 @@ public class SetRemove {
     @Benchmark
     public Object MapPSet() {
         MapPSet<Integer> s = mSets.mMapPSet;
-        for (int i = SIZE - 100; i >= SIZE / 2; i--) {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
             s = s.minus(mSets.mArray[i / 2]);
         }
         return s;
@@ -88,7 +107,7 @@ public class SetRemove {
     @Benchmark
     public Object JImmutableHashSet() {
         JImmutableSet<Integer> s = mSets.mJImmutableHashSet;
-        for (int i = SIZE - 100; i >= SIZE / 2; i--) {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
             s = s.delete(mSets.mArray[i / 2]);
         }
         return s;
@@ -97,7 +116,7 @@ public class SetRemove {
     @Benchmark
     public Object JImmutableTreeSet() {
         JImmutableSet<Integer> s = mSets.mJImmutableTreeSet;
-        for (int i = SIZE - 100; i >= SIZE / 2; i--) {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
             s = s.delete(mSets.mArray[i / 2]);
         }
         return s;
@@ -0,0 +1,26 @@
+package com.olekdia.pcollections;
+
+/**
+ * One version of a map, which is never changed: every update returns a new version.
+ * Persistent maps share the untouched part of the structure with the version they came from,
+ * copy-on-write maps copy it.
+ */
+public interface VersionedMap {
+
+    /**
+     * @return a new version with the entries put, this one stays the same
+     */
+    VersionedMap with(Object[] keys, Object[] values);
+
+    /**
+     * @return a new version with all the entries of the other version put over the entries of this one
+     */
+    VersionedMap withAll(VersionedMap other);
+
+    boolean sameEntries(VersionedMap other);
+
+    /**
+     * @return the underlying map
+     */
+    Object map();
+}
@@ -0,0 +1,198 @@
+package com.olekdia.pcollections;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.javimmutable.collections.JImmutableMap;
+import org.javimmutable.collections.util.JImmutables;
+import org.pcollections.HashPMap;
+import org.pcollections.HashTreePMap;
+import org.pcollections.IntTreePMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class VersionedMaps {
+
+    public static final String HASH_PMAP = "HashPMap";
+    public static final String INT_TREE_PMAP = "IntTreePMap";
+    public static final String JIMMUTABLE_HASH_MAP = "JImmutableHashMap";
+    public static final String ECLIPSE_IMMUTABLE_MAP = "EclipseImmutableMap";
+    public static final String COPY_ON_WRITE_HASH_MAP = "CopyOnWriteHashMap";
+
+    public static VersionedMap create(final String type, final Integer[] keys, final Integer[] values) {
+        switch (type) {
+            case HASH_PMAP:
+                return new HashPMapVersion(typed(CollectionHelper.plus(HashTreePMap.empty(), keys, values)));
+            case INT_TREE_PMAP:
+                return new IntTreePMapVersion(typed(CollectionHelper.plus(IntTreePMap.empty(), keys, values)));
+            case JIMMUTABLE_HASH_MAP:
+                return new JImmutableMapVersion(typed(CollectionHelper.put(JImmutables.map(), keys, values)));
+            case ECLIPSE_IMMUTABLE_MAP:
+                return new EclipseImmutableMapVersion(
+                        CollectionHelper.put(UnifiedMap.newMap(keys.length), keys, values).toImmutable());
+            case COPY_ON_WRITE_HASH_MAP:
+                return new CopyOnWriteHashMapVersion(CollectionHelper.put(new HashMap<>(keys.length), keys, values));
+            default:
+                throw new IllegalArgumentException("Unknown versioned map: " + type);
+        }
+    }
+
+    /**
+     * CollectionHelper works on raw types, the map it returns is of the same type as the one it was given
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T typed(final Object map) {
+        return (T) map;
+    }
+
+    public static class HashPMapVersion implements VersionedMap {
+        private final HashPMap<Object, Object> mMap;
+
+        HashPMapVersion(final HashPMap<Object, Object> map) {
+            mMap = map;
+        }
+
+        @Override
+        public VersionedMap with(final Object[] keys, final Object[] values) {
+            return new HashPMapVersion(typed(CollectionHelper.plus(mMap, keys, values)));
+        }
+
+        @Override
+        public VersionedMap withAll(final VersionedMap other) {
+            return new HashPMapVersion(mMap.plusAll(((HashPMapVersion) other).mMap));
+        }
+
+        @Override
+        public boolean sameEntries(final VersionedMap other) {
+            return mMap.equals(other.map());
+        }
+
+        @Override
+        public Object map() {
+            return mMap;
+        }
+    }
+
+    public static class IntTreePMapVersion implements VersionedMap {
+        private final IntTreePMap<Object> mMap;
+
+        IntTreePMapVersion(final IntTreePMap<Object> map) {
+            mMap = map;
+        }
+
+        @Override
+        public VersionedMap with(final Object[] keys, final Object[] values) {
+            return new IntTreePMapVersion(typed(CollectionHelper.plus(mMap, keys, values)));
+        }
+
+        @Override
+        public VersionedMap withAll(final VersionedMap other) {
+            return new IntTreePMapVersion(mMap.plusAll(((IntTreePMapVersion) other).mMap));
+        }
+
+        @Override
+        public boolean sameEntries(final VersionedMap other) {
+            return mMap.equals(other.map());
+        }
+
+        @Override
+        public Object map() {
+            return mMap;
+        }
+    }
+
+    public static class JImmutableMapVersion implements VersionedMap {
+        private final JImmutableMap<Object, Object> mMap;
+
+        JImmutableMapVersion(final JImmutableMap<Object, Object> map) {
+            mMap = map;
+        }
+
+        @Override
+        public VersionedMap with(final Object[] keys, final Object[] values) {
+            return new JImmutableMapVersion(typed(CollectionHelper.put(mMap, keys, values)));
+        }
+
+        @Override
+        public VersionedMap withAll(final VersionedMap other) {
+            return new JImmutableMapVersion(mMap.assignAll(((JImmutableMapVersion) other).mMap));
+        }
+
+        @Override
+        public boolean sameEntries(final VersionedMap other) {
+            return mMap.equals(other.map());
+        }
+
+        @Override
+        public Object map() {
+            return mMap;
+        }
+    }
+
+    /**
+     * Eclipse immutable maps share nothing between versions, an update is a mutable copy frozen again
+     */
+    public static class EclipseImmutableMapVersion implements VersionedMap {
+        private final ImmutableMap<Object, Object> mMap;
+
+        EclipseImmutableMapVersion(final ImmutableMap<Object, Object> map) {
+            mMap = map;
+        }
+
+        @Override
+        public VersionedMap with(final Object[] keys, final Object[] values) {
+            return new EclipseImmutableMapVersion(
+                    CollectionHelper.put(UnifiedMap.newMap(mMap.castToMap()), keys, values).toImmutable());
+        }
+
+        @Override
+        public VersionedMap withAll(final VersionedMap other) {
+            final UnifiedMap<Object, Object> copy = UnifiedMap.newMap(mMap.castToMap());
+            copy.putAll(((EclipseImmutableMapVersion) other).mMap.castToMap());
+            return new EclipseImmutableMapVersion(copy.toImmutable());
+        }
+
+        @Override
+        public boolean sameEntries(final VersionedMap other) {
+            return mMap.equals(other.map());
+        }
+
+        @Override
+        public Object map() {
+            return mMap;
+        }
+    }
+
+    /**
+     * A plain HashMap, copied before every update and never changed after
+     */
+    public static class CopyOnWriteHashMapVersion implements VersionedMap {
+        private final Map<Object, Object> mMap;
+
+        CopyOnWriteHashMapVersion(final Map<Object, Object> map) {
+            mMap = map;
+        }
+
+        @Override
+        public VersionedMap with(final Object[] keys, final Object[] values) {
+            return new CopyOnWriteHashMapVersion(CollectionHelper.put(new HashMap<>(mMap), keys, values));
+        }
+
+        @Override
+        public VersionedMap withAll(final VersionedMap other) {
+            final HashMap<Object, Object> copy = new HashMap<>(mMap);
+            copy.putAll(((CopyOnWriteHashMapVersion) other).mMap);
+            return new CopyOnWriteHashMapVersion(copy);
+        }
+
+        @Override
+        public boolean sameEntries(final VersionedMap other) {
+            return mMap.equals(other.map());
+        }
+
+        @Override
+        public Object map() {
+            return mMap;
+        }
+    }
+}
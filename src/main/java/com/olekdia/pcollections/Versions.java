@@ -0,0 +1,42 @@
+package com.olekdia.pcollections;
+
+import java.util.Random;
+
+/**
+ * A base map of {@code size} int keys and {@code count} versions derived from it.
+ * Version i updates {@code delta} random keys of the base with values of its own,
+ * so any two versions differ by about 2 * delta entries.
+ */
+public class Versions {
+    public final Integer[] mKeys;
+    public final Integer[] mValues;
+    public final Integer[][] mDeltaKeys;
+    public final Integer[][] mDeltaValues;
+    public final VersionedMap mBase;
+    public final VersionedMap[] mVersions;
+
+    public Versions(final String type, final int size, final int count, final int delta) {
+        mKeys = new Integer[size];
+        mValues = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mKeys[i] = Integer.valueOf(i);
+            mValues[i] = mKeys[i];
+        }
+
+        final Random random = new Random(42);
+        mDeltaKeys = new Integer[count][delta];
+        mDeltaValues = new Integer[count][delta];
+        for (int v = 0; v < count; v++) {
+            for (int j = 0; j < delta; j++) {
+                mDeltaKeys[v][j] = mKeys[random.nextInt(size)];
+                mDeltaValues[v][j] = Integer.valueOf(size + v * delta + j);
+            }
+        }
+
+        mBase = VersionedMaps.create(type, mKeys, mValues);
+        mVersions = new VersionedMap[count];
+        for (int v = 0; v < count; v++) {
+            mVersions[v] = mBase.with(mDeltaKeys[v], mDeltaValues[v]);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.olekdia.primitives;
+
+import androidx.collection.SparseArrayCompat;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class IntCollectionHelper {
+
+    public static <T extends MutableIntCollection> T add(final T c, final int[] list) {
+        for (int e : list) c.add(e);
+        return c;
+    }
+
+    public static <T extends Collection<Integer>> T add(final T c, final int[] list) {
+        for (int e : list) c.add(e);
+        return c;
+    }
+
+    public static <T extends MutableIntIntMap> T put(final T m, final int[] list) {
+        for (int e : list) m.put(e, e);
+        return m;
+    }
+
+    public static <T extends Map<Integer, Integer>> T put(final T m, final int[] list) {
+        for (int e : list) m.put(e, e);
+        return m;
+    }
+
+    public static SparseArrayCompat<Integer> put(final SparseArrayCompat<Integer> m, final int[] list) {
+        for (int e : list) m.put(e, e);
+        return m;
+    }
+
+    /**
+     * Boxed elements taken from the array, so the collection holds the same Integer instances as the array
+     */
+    public static <T extends Collection<Integer>> T add(final T c, final Integer[] list) {
+        for (Integer e : list) c.add(e);
+        return c;
+    }
+
+    public static <T extends Map<Integer, Integer>> T put(final T m, final Integer[] list) {
+        for (Integer e : list) m.put(e, e);
+        return m;
+    }
+
+    public static SparseArrayCompat<Integer> put(final SparseArrayCompat<Integer> m, final Integer[] list) {
+        for (Integer e : list) m.put(e, e);
+        return m;
+    }
+
+    /**
+     * Puts back everything a remove benchmark took out, the collection keeps its capacity
+     */
+    public static <T extends MutableIntCollection> T refill(final T c, final int[] list) {
+        c.clear();
+        return add(c, list);
+    }
+
+    public static <T extends Collection<Integer>> T refill(final T c, final int[] list) {
+        c.clear();
+        return add(c, list);
+    }
+
+    public static <T extends MutableIntIntMap> T refill(final T m, final int[] list) {
+        m.clear();
+        return put(m, list);
+    }
+
+    public static <T extends Map<Integer, Integer>> T refill(final T m, final int[] list) {
+        m.clear();
+        return put(m, list);
+    }
+
+    public static SparseArrayCompat<Integer> refill(final SparseArrayCompat<Integer> m, final int[] list) {
+        m.clear();
+        return put(m, list);
+    }
+
+    public static long iterate(final IntIterator it) {
+        long sum = 0L;
+        while (it.hasNext()) {
+            sum += it.next();
+        }
+        return sum;
+    }
+
+    public static long iterate(final int[] array) {
+        long sum = 0L;
+        for (int item : array) {
+            sum += item;
+        }
+        return sum;
+    }
+}
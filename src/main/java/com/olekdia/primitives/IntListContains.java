@@ -0,0 +1,76 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntListContains {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    volatile IntLists mLists = null;
+    volatile int mSearchedValue;
+    volatile Integer mSearchedObject = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntListContains.class).build();
+
+        ScalingReport.printPerOp(ResultStore.save(IntListContains.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mLists = new IntLists(size);
+        mSearchedValue = mLists.mArray[size * 8 / 9];
+        mSearchedObject = mLists.mBoxedArray[size * 8 / 9];
+    }
+
+    @Benchmark
+    public boolean ArrayList() {
+        return mLists.mArrayList.contains(mSearchedObject);
+    }
+
+    @Benchmark
+    public boolean IntArrayList() {
+        return mLists.mIntArrayList.contains(mSearchedValue);
+    }
+
+    @Benchmark
+    public boolean IntArray() {
+        final int searchedValue = mSearchedValue;
+
+        for (int value : mLists.mArray) {
+            if (value == searchedValue) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.olekdia.primitives;
+
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+
+import java.util.ArrayList;
+
+public class IntLists {
+    public final int[] mArray;
+    public final Integer[] mBoxedArray;
+    public final ArrayList<Integer> mArrayList;
+    public final IntArrayList mIntArrayList;
+
+    public IntLists(final int size) {
+        mArray = new int[size];
+        mBoxedArray = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mArray[i] = i;
+            mBoxedArray[i] = Integer.valueOf(i);
+        }
+
+        mArrayList = IntCollectionHelper.add(new ArrayList<>(size), mBoxedArray);
+        mIntArrayList = IntCollectionHelper.add(new IntArrayList(size), mArray);
+    }
+}
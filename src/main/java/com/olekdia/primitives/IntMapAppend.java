@@ -0,0 +1,90 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import androidx.collection.SparseArrayCompat;
+import com.olekdia.pcollections.ScalingReport;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntMapAppend {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    volatile int[] mValues = null;
+    volatile Integer[] mBoxedValues = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntMapAppend.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntMapAppend.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mValues = new int[size];
+        mBoxedValues = new Integer[size];
+
+        final Random random = new Random();
+        for (int i = 0; i < size; i++) {
+            mValues[i] = random.nextInt(size);
+            mBoxedValues[i] = Integer.valueOf(mValues[i]);
+        }
+    }
+
+    @Benchmark
+    public Object HashMap() {
+        final HashMap<Integer, Integer> map = new HashMap<>();
+        for (Integer e : mBoxedValues) map.put(e, e);
+        return map;
+    }
+
+    @Benchmark
+    public Object HashMapAutoboxing() {
+        return IntCollectionHelper.put(new HashMap<>(), mValues);
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedMap() {
+        return IntCollectionHelper.put(new UnifiedMap<>(), mValues);
+    }
+
+    @Benchmark
+    public Object SparseArray() {
+        return IntCollectionHelper.put(new SparseArrayCompat<>(), mValues);
+    }
+
+    @Benchmark
+    public Object IntIntHashMap() {
+        return IntCollectionHelper.put(new IntIntHashMap(), mValues);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.CollectionHelper;
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntMapIterate {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private volatile IntMaps mMaps = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntMapIterate.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntMapIterate.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mMaps = new IntMaps(size);
+    }
+
+    @Benchmark
+    public Object HashMap() {
+        return CollectionHelper.iterate(mMaps.mHashMap.values());
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedMap() {
+        return CollectionHelper.iterate(mMaps.mUnifiedMap.values());
+    }
+
+    @Benchmark
+    public Object SparseArray() {
+        long sum = 0L;
+        for (int i = 0; i < mMaps.mSparseArray.size(); i++) {
+            sum += mMaps.mSparseArray.valueAt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Object IntIntHashMap() {
+        return IntCollectionHelper.iterate(mMaps.mIntIntHashMap.intIterator());
+    }
+
+    @Benchmark
+    public Object IntIntHashMapSum() {
+        return mMaps.mIntIntHashMap.sum();
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntMapRandomAccess {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private volatile IntMaps mMaps = null;
+    private volatile int[] mIndices = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntMapRandomAccess.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntMapRandomAccess.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mMaps = new IntMaps(size);
+        mIndices = new int[size];
+
+        final Random random = new Random();
+        for (int i = 0; i < size; i++) {
+            mIndices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public long HashMap() {
+        long sum = 0L;
+        for (int index : mIndices) {
+            sum += mMaps.mHashMap.get(mMaps.mBoxedArray[index]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long HashMapAutoboxing() {
+        long sum = 0L;
+        for (int index : mIndices) {
+            sum += mMaps.mHashMap.get(mMaps.mArray[index]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long EclipseUnifiedMap() {
+        long sum = 0L;
+        for (int index : mIndices) {
+            sum += mMaps.mUnifiedMap.get(mMaps.mBoxedArray[index]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long SparseArray() {
+        long sum = 0L;
+        for (int index : mIndices) {
+            sum += mMaps.mSparseArray.get(mMaps.mArray[index]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long IntIntHashMap() {
+        long sum = 0L;
+        for (int index : mIndices) {
+            sum += mMaps.mIntIntHashMap.get(mMaps.mArray[index]);
+        }
+        return sum;
+    }
+}
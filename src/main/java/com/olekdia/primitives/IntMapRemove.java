@@ -0,0 +1,106 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntMapRemove {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private volatile IntMaps mMaps = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntMapRemove.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntMapRemove.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mMaps = new IntMaps(size);
+    }
+
+    /**
+     * Puts the removed entries back before every invocation, out of the score,
+     * so every invocation removes from a full map
+     */
+    @Setup(Level.Invocation)
+    public void refill(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark();
+        switch (benchmark.substring(benchmark.lastIndexOf('.') + 1)) {
+            case "HashMap":
+                IntCollectionHelper.refill(mMaps.mHashMap, mMaps.mArray);
+                break;
+            case "EclipseUnifiedMap":
+                IntCollectionHelper.refill(mMaps.mUnifiedMap, mMaps.mArray);
+                break;
+            case "SparseArray":
+                IntCollectionHelper.refill(mMaps.mSparseArray, mMaps.mArray);
+                break;
+            case "IntIntHashMap":
+                IntCollectionHelper.refill(mMaps.mIntIntHashMap, mMaps.mArray);
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object HashMap() {
+        for (int i = size - size / 1000; i >= 0; i--) {
+            mMaps.mHashMap.remove(mMaps.mBoxedArray[i / 2]);
+        }
+        return mMaps.mHashMap;
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedMap() {
+        for (int i = size - size / 1000; i >= 0; i--) {
+            mMaps.mUnifiedMap.remove(mMaps.mBoxedArray[i / 2]);
+        }
+        return mMaps.mUnifiedMap;
+    }
+
+    @Benchmark
+    public Object SparseArray() {
+        for (int i = size - size / 1000; i >= 0; i--) {
+            mMaps.mSparseArray.remove(mMaps.mArray[i / 2]);
+        }
+        return mMaps.mSparseArray;
+    }
+
+    @Benchmark
+    public Object IntIntHashMap() {
+        for (int i = size - size / 1000; i >= 0; i--) {
+            mMaps.mIntIntHashMap.remove(mMaps.mArray[i / 2]);
+        }
+        return mMaps.mIntIntHashMap;
+    }
+}
@@ -0,0 +1,30 @@
+package com.olekdia.primitives;
+
+import androidx.collection.SparseArrayCompat;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+
+import java.util.HashMap;
+
+public class IntMaps {
+    public final int[] mArray;
+    public final Integer[] mBoxedArray;
+    public final HashMap<Integer, Integer> mHashMap;
+    public final UnifiedMap<Integer, Integer> mUnifiedMap;
+    public final SparseArrayCompat<Integer> mSparseArray;
+    public final IntIntHashMap mIntIntHashMap;
+
+    public IntMaps(final int size) {
+        mArray = new int[size];
+        mBoxedArray = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mArray[i] = i;
+            mBoxedArray[i] = Integer.valueOf(i);
+        }
+
+        mHashMap = IntCollectionHelper.put(new HashMap<>(size), mBoxedArray);
+        mUnifiedMap = IntCollectionHelper.put(new UnifiedMap<>(size), mBoxedArray);
+        mSparseArray = IntCollectionHelper.put(new SparseArrayCompat<>(size), mBoxedArray);
+        mIntIntHashMap = IntCollectionHelper.put(new IntIntHashMap(size), mArray);
+    }
+}
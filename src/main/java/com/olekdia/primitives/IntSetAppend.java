@@ -0,0 +1,84 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntSetAppend {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    volatile int[] mValues = null;
+    volatile Integer[] mBoxedValues = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntSetAppend.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntSetAppend.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mValues = new int[size];
+        mBoxedValues = new Integer[size];
+
+        Random random = new Random();
+        for (int i = 0; i < size; i++) {
+            mValues[i] = random.nextInt(size);
+            mBoxedValues[i] = Integer.valueOf(mValues[i]);
+        }
+    }
+
+    @Benchmark
+    public Object HashSet() {
+        final HashSet<Integer> set = new HashSet<>();
+        for (Integer e : mBoxedValues) set.add(e);
+        return set;
+    }
+
+    @Benchmark
+    public Object HashSetAutoboxing() {
+        return IntCollectionHelper.add(new HashSet<>(), mValues);
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedSet() {
+        return IntCollectionHelper.add(new UnifiedSet<>(), mValues);
+    }
+
+    @Benchmark
+    public Object IntHashSet() {
+        return IntCollectionHelper.add(new IntHashSet(), mValues);
+    }
+}
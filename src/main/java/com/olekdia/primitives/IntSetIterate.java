@@ -0,0 +1,71 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.CollectionHelper;
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntSetIterate {
+
+    @Param({"10", "1000", "200000", "1000000"})
+    public int size;
+
+    private volatile IntSets mSets = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntSetIterate.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntSetIterate.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mSets = new IntSets(size);
+    }
+
+    @Benchmark
+    public Object HashSet() {
+        return CollectionHelper.iterate(mSets.mHashSet);
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedSet() {
+        return CollectionHelper.iterate(mSets.mUnifiedSet);
+    }
+
+    @Benchmark
+    public Object IntHashSet() {
+        return IntCollectionHelper.iterate(mSets.mIntHashSet.intIterator());
+    }
+
+    @Benchmark
+    public Object IntHashSetSum() {
+        return mSets.mIntHashSet.sum();
+    }
+}
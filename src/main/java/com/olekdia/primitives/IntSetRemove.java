@@ -0,0 +1,94 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.primitives;
+
+import com.olekdia.pcollections.ScalingReport;
+import com.olekdia.runner.BenchmarkOptions;
+import com.olekdia.runner.ResultStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+
+import java.util.concurrent.TimeUnit;
+
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class IntSetRemove {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int size;
+
+    private volatile IntSets mSets = null;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = BenchmarkOptions.of(IntSetRemove.class).build();
+
+        ScalingReport.printPerElement(ResultStore.save(IntSetRemove.class, new Runner(opt).run()));
+    }
+
+    @Setup
+    public void setup() {
+        mSets = new IntSets(size);
+    }
+
+    /**
+     * Puts the removed items back before every invocation, out of the score
+     */
+    @Setup(Level.Invocation)
+    public void refill(final BenchmarkParams params) {
+        final String benchmark = params.getBenchmark();
+        switch (benchmark.substring(benchmark.lastIndexOf('.') + 1)) {
+            case "HashSet":
+                IntCollectionHelper.refill(mSets.mHashSet, mSets.mArray);
+                break;
+            case "EclipseUnifiedSet":
+                IntCollectionHelper.refill(mSets.mUnifiedSet, mSets.mArray);
+                break;
+            case "IntHashSet":
+                IntCollectionHelper.refill(mSets.mIntHashSet, mSets.mArray);
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object HashSet() {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
+            mSets.mHashSet.remove(mSets.mBoxedArray[i / 2]);
+        }
+        return mSets.mHashSet;
+    }
+
+    @Benchmark
+    public Object EclipseUnifiedSet() {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
+            mSets.mUnifiedSet.remove(mSets.mBoxedArray[i / 2]);
+        }
+        return mSets.mUnifiedSet;
+    }
+
+    @Benchmark
+    public Object IntHashSet() {
+        for (int i = size - size / 1000; i >= size / 2; i--) {
+            mSets.mIntHashSet.remove(mSets.mArray[i / 2]);
+        }
+        return mSets.mIntHashSet;
+    }
+}
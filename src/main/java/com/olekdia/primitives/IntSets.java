@@ -0,0 +1,27 @@
+package com.olekdia.primitives;
+
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+
+import java.util.HashSet;
+
+public class IntSets {
+    public final int[] mArray;
+    public final Integer[] mBoxedArray;
+    public final HashSet<Integer> mHashSet;
+    public final UnifiedSet<Integer> mUnifiedSet;
+    public final IntHashSet mIntHashSet;
+
+    public IntSets(final int size) {
+        mArray = new int[size];
+        mBoxedArray = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            mArray[i] = i;
+            mBoxedArray[i] = Integer.valueOf(i);
+        }
+
+        mHashSet = IntCollectionHelper.add(new HashSet<>(size), mBoxedArray);
+        mUnifiedSet = IntCollectionHelper.add(new UnifiedSet<>(size), mBoxedArray);
+        mIntHashSet = IntCollectionHelper.add(new IntHashSet(size), mArray);
+    }
+}
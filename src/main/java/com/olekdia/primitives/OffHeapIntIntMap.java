@@ -0,0 +1,289 @@
+package com.olekdia.primitives;
+
+import org.eclipse.collections.api.iterator.IntIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+/**
+ * Open addressing int to int hash map, which keeps its table outside of the java heap,
+ * in direct {@link ByteBuffer}s. Only the buffer handles live on heap, so the GC has
+ * nothing to scan, no matter how many entries the map holds.
+ *
+ * Every slot is 8 bytes: the key followed by the value. Key {@code 0} marks an empty slot
+ * (fresh direct buffers are zeroed), the real {@code 0} key is stored aside in fields.
+ * Collisions are resolved with linear probing, removal shifts the following entries back,
+ * so there are no tombstones.
+ *
+ * A single buffer is limited to 2 GB, bigger tables are split into segments of
+ * {@link #SEGMENT_SLOTS} slots. Not thread safe.
+ *
+ * The native memory of a buffer is released only when the GC collects its handle, after a rehash
+ * or once the map is dropped. Maps, which come and go often, should be presized and reused with {@link #clear()}.
+ */
+public class OffHeapIntIntMap {
+
+    private static final int EMPTY_KEY = 0;
+    private static final int NO_ENTRY_VALUE = 0;
+
+    private static final int SLOT_SHIFT = 3; // 8 bytes per slot
+    private static final int VALUE_OFFSET = 4;
+
+    private static final int SEGMENT_SHIFT = 26;
+    public static final int SEGMENT_SLOTS = 1 << SEGMENT_SHIFT; // 512 MB per buffer
+    private static final int SEGMENT_MASK = SEGMENT_SLOTS - 1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private ByteBuffer[] mSegments;
+    private int mCapacity;
+    private int mMask;
+    private int mHashShift;
+    private int mMaxOccupied;
+
+    private int mOccupied;
+    private boolean mHasZeroKey;
+    private int mZeroKeyValue;
+
+    public OffHeapIntIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public OffHeapIntIntMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return mOccupied + (mHasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return number of bytes reserved outside of the heap
+     */
+    public long allocatedBytes() {
+        return (long) mCapacity << SLOT_SHIFT;
+    }
+
+    public void put(final int key, final int value) {
+        if (key == EMPTY_KEY) {
+            mHasZeroKey = true;
+            mZeroKeyValue = value;
+            return;
+        }
+
+        int slot = slotOf(key);
+        while (true) {
+            final int k = keyAt(slot);
+            if (k == key) {
+                setValueAt(slot, value);
+                return;
+            }
+            if (k == EMPTY_KEY) {
+                setKeyAt(slot, key);
+                setValueAt(slot, value);
+                if (++mOccupied > mMaxOccupied) {
+                    if (mCapacity == MAX_CAPACITY) {
+                        throw new IllegalStateException("OffHeapIntIntMap can't grow beyond " + MAX_CAPACITY + " slots");
+                    }
+                    rehash(mCapacity << 1);
+                }
+                return;
+            }
+            slot = (slot + 1) & mMask;
+        }
+    }
+
+    public int get(final int key) {
+        return getIfAbsent(key, NO_ENTRY_VALUE);
+    }
+
+    public int getIfAbsent(final int key, final int ifAbsent) {
+        if (key == EMPTY_KEY) {
+            return mHasZeroKey ? mZeroKeyValue : ifAbsent;
+        }
+
+        final int slot = indexOf(key);
+        return slot < 0 ? ifAbsent : valueAt(slot);
+    }
+
+    public boolean containsKey(final int key) {
+        if (key == EMPTY_KEY) {
+            return mHasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    public void remove(final int key) {
+        if (key == EMPTY_KEY) {
+            mHasZeroKey = false;
+            mZeroKeyValue = NO_ENTRY_VALUE;
+            return;
+        }
+
+        final int slot = indexOf(key);
+        if (slot < 0) return;
+
+        // Backward shift: pull every following entry of the probe run, which is allowed
+        // to live in the freed slot, one step closer to its home slot
+        int hole = slot;
+        int next = (hole + 1) & mMask;
+        int k;
+        while ((k = keyAt(next)) != EMPTY_KEY) {
+            final int home = slotOf(k);
+            if (((next - home) & mMask) >= ((next - hole) & mMask)) {
+                setKeyAt(hole, k);
+                setValueAt(hole, valueAt(next));
+                hole = next;
+            }
+            next = (next + 1) & mMask;
+        }
+        setKeyAt(hole, EMPTY_KEY);
+        setValueAt(hole, NO_ENTRY_VALUE);
+        mOccupied--;
+    }
+
+    /**
+     * Removes all entries, keeping the allocated table
+     */
+    public void clear() {
+        for (ByteBuffer segment : mSegments) {
+            for (int i = 0, limit = segment.capacity(); i < limit; i += 8) {
+                segment.putLong(i, 0L);
+            }
+        }
+        mOccupied = 0;
+        mHasZeroKey = false;
+        mZeroKeyValue = NO_ENTRY_VALUE;
+    }
+
+    /**
+     * Iterates over values, in table order.
+     */
+    public IntIterator valuesIterator() {
+        return new ValuesIterator();
+    }
+
+    private int indexOf(final int key) {
+        int slot = slotOf(key);
+        while (true) {
+            final int k = keyAt(slot);
+            if (k == key) return slot;
+            if (k == EMPTY_KEY) return -1;
+            slot = (slot + 1) & mMask;
+        }
+    }
+
+    private int slotOf(final int key) {
+        // Fibonacci hashing spreads sequential keys over the whole table
+        return (key * 0x9E3779B9) >>> mHashShift;
+    }
+
+    private int keyAt(final int slot) {
+        return keyAt(mSegments, slot);
+    }
+
+    private int valueAt(final int slot) {
+        return valueAt(mSegments, slot);
+    }
+
+    private void setKeyAt(final int slot, final int key) {
+        mSegments[slot >>> SEGMENT_SHIFT].putInt((slot & SEGMENT_MASK) << SLOT_SHIFT, key);
+    }
+
+    private void setValueAt(final int slot, final int value) {
+        mSegments[slot >>> SEGMENT_SHIFT].putInt(((slot & SEGMENT_MASK) << SLOT_SHIFT) + VALUE_OFFSET, value);
+    }
+
+    private static int keyAt(final ByteBuffer[] segments, final int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt((slot & SEGMENT_MASK) << SLOT_SHIFT);
+    }
+
+    private static int valueAt(final ByteBuffer[] segments, final int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt(((slot & SEGMENT_MASK) << SLOT_SHIFT) + VALUE_OFFSET);
+    }
+
+    private void allocate(final int capacity) {
+        final int segmentSlots = Math.min(capacity, SEGMENT_SLOTS);
+        final ByteBuffer[] segments = new ByteBuffer[capacity / segmentSlots];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(segmentSlots << SLOT_SHIFT)
+                    .order(ByteOrder.nativeOrder());
+        }
+
+        mSegments = segments;
+        mCapacity = capacity;
+        mMask = capacity - 1;
+        mHashShift = Integer.numberOfLeadingZeros(capacity) + 1;
+        mMaxOccupied = (int) (capacity * LOAD_FACTOR);
+        mOccupied = 0;
+    }
+
+    private void rehash(final int newCapacity) {
+        final ByteBuffer[] oldSegments = mSegments;
+        final int oldCapacity = mCapacity;
+        allocate(newCapacity);
+
+        for (int i = 0; i < oldCapacity; i++) {
+            final int key = keyAt(oldSegments, i);
+            if (key == EMPTY_KEY) continue;
+
+            int slot = slotOf(key);
+            while (keyAt(slot) != EMPTY_KEY) {
+                slot = (slot + 1) & mMask;
+            }
+            setKeyAt(slot, key);
+            setValueAt(slot, valueAt(oldSegments, i));
+            mOccupied++;
+        }
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size is too big: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private class ValuesIterator implements IntIterator {
+
+        private int mSlot = -1;
+        private boolean mZeroKeyPending = mHasZeroKey;
+
+        ValuesIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mZeroKeyPending || mSlot < mCapacity;
+        }
+
+        @Override
+        public int next() {
+            if (mZeroKeyPending) {
+                mZeroKeyPending = false;
+                return mZeroKeyValue;
+            }
+            if (mSlot >= mCapacity) {
+                throw new NoSuchElementException();
+            }
+            final int value = valueAt(mSlot);
+            advance();
+            return value;
+        }
+
+        private void advance() {
+            do {
+                mSlot++;
+            } while (mSlot < mCapacity && keyAt(mSlot) == EMPTY_KEY);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.runner;
+
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.regex.Pattern;
+
+/**
+ * Runner configuration shared by every benchmark {@code main()}.
+ *
+ * Profilers are picked with {@code -Dbenchmark.profilers}, a comma separated list of
+ * JMH profiler names or class names, each optionally followed by {@code :options}, e.g.
+ * {@code -Dbenchmark.profilers=gc,stack:lines=5,perfnorm}.
+ * By default only the GC profiler is on, so every run reports {@code gc.alloc.rate.norm} (bytes/op),
+ * {@code -Dbenchmark.profilers=none} switches profiling off.
+ */
+public class BenchmarkOptions {
+
+    public static final String PROFILERS_PROPERTY = "benchmark.profilers";
+    public static final String DEFAULT_PROFILERS = "gc";
+    public static final String NO_PROFILERS = "none";
+
+    /**
+     * Runs only this class, the simple name alone would also match ConstructPlusDays for Construct
+     */
+    public static ChainedOptionsBuilder of(final Class<?> benchmark) {
+        return of(Pattern.quote(benchmark.getName() + "."));
+    }
+
+    /**
+     * @param include regexp of benchmarks to run, for running only a part of a class
+     */
+    public static ChainedOptionsBuilder of(final String include) {
+        final ChainedOptionsBuilder builder = new OptionsBuilder()
+                .include(include)
+                .forks(1);
+        addProfilers(builder, System.getProperty(PROFILERS_PROPERTY, DEFAULT_PROFILERS));
+        return builder;
+    }
+
+    private static void addProfilers(final ChainedOptionsBuilder builder, final String profilers) {
+        for (String profiler : profilers.split(",")) {
+            profiler = profiler.trim();
+            if (profiler.isEmpty() || profiler.equals(NO_PROFILERS)) continue;
+
+            final int optionsStart = profiler.indexOf(':');
+            if (optionsStart < 0) {
+                builder.addProfiler(profiler);
+            } else {
+                builder.addProfiler(profiler.substring(0, optionsStart), profiler.substring(optionsStart + 1));
+            }
+        }
+    }
+}
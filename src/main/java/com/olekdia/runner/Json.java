@@ -0,0 +1,187 @@
+package com.olekdia.runner;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Just enough of a JSON reader for the JMH result files:
+ * objects become {@link LinkedHashMap}s, arrays {@link ArrayList}s, numbers {@link Double}s.
+ * {@link #quote(String)} is the writing side, for the results measured outside of JMH.
+ */
+class Json {
+
+    private final String mText;
+    private int mPos;
+
+    private Json(final String text) {
+        mText = text;
+    }
+
+    static Object parse(final String text) {
+        final Json json = new Json(text);
+        final Object value = json.value();
+        json.skipWhitespace();
+        if (json.mPos != text.length()) {
+            throw json.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    static String quote(final String text) {
+        final StringBuilder sb = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private Object value() {
+        skipWhitespace();
+        if (mPos >= mText.length()) throw error("Unexpected end");
+
+        final char c = mText.charAt(mPos);
+        switch (c) {
+            case '{':
+                return object();
+            case '[':
+                return array();
+            case '"':
+                return string();
+            case 't':
+                return literal("true", Boolean.TRUE);
+            case 'f':
+                return literal("false", Boolean.FALSE);
+            case 'n':
+                return literal("null", null);
+            default:
+                return number();
+        }
+    }
+
+    private Map<String, Object> object() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        mPos++; // {
+        skipWhitespace();
+        if (peek() == '}') {
+            mPos++;
+            return map;
+        }
+        while (true) {
+            skipWhitespace();
+            final String key = string();
+            skipWhitespace();
+            expect(':');
+            map.put(key, value());
+            skipWhitespace();
+            if (peek() == ',') {
+                mPos++;
+            } else {
+                expect('}');
+                return map;
+            }
+        }
+    }
+
+    private List<Object> array() {
+        final List<Object> list = new ArrayList<>();
+        mPos++; // [
+        skipWhitespace();
+        if (peek() == ']') {
+            mPos++;
+            return list;
+        }
+        while (true) {
+            list.add(value());
+            skipWhitespace();
+            if (peek() == ',') {
+                mPos++;
+            } else {
+                expect(']');
+                return list;
+            }
+        }
+    }
+
+    private String string() {
+        expect('"');
+        final StringBuilder sb = new StringBuilder();
+        while (true) {
+            if (mPos >= mText.length()) throw error("Unterminated string");
+
+            final char c = mText.charAt(mPos++);
+            if (c == '"') return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            final char escaped = mText.charAt(mPos++);
+            switch (escaped) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(mText.substring(mPos, mPos + 4), 16));
+                    mPos += 4;
+                    break;
+                default: sb.append(escaped);
+            }
+        }
+    }
+
+    private Double number() {
+        final int start = mPos;
+        while (mPos < mText.length() && "+-0123456789.eE".indexOf(mText.charAt(mPos)) >= 0) {
+            mPos++;
+        }
+        if (start == mPos) throw error("Unexpected character");
+        return Double.valueOf(mText.substring(start, mPos));
+    }
+
+    private Object literal(final String literal, final Object value) {
+        if (!mText.startsWith(literal, mPos)) throw error("Unexpected character");
+        mPos += literal.length();
+        return value;
+    }
+
+    private char peek() {
+        if (mPos >= mText.length()) throw error("Unexpected end");
+        return mText.charAt(mPos);
+    }
+
+    private void expect(final char c) {
+        if (peek() != c) throw error("Expected '" + c + "'");
+        mPos++;
+    }
+
+    private void skipWhitespace() {
+        while (mPos < mText.length() && Character.isWhitespace(mText.charAt(mPos))) {
+            mPos++;
+        }
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(message + " at " + mPos);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.runner;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Compares a JMH JSON run against a stored baseline:
+ * <pre>
+ * java -cp target/benchmarks.jar com.olekdia.runner.RegressionGate &lt;baseline&gt; &lt;current&gt; [--threshold 5]
+ * </pre>
+ * Both arguments are JSON result files, or directories of them, as kept by {@link ResultStore}.
+ * Results are matched by benchmark, mode and params.
+ *
+ * A result regresses when it got worse by more than the score errors of both runs together
+ * and by more than the threshold, in percent of the baseline score (0 by default, only the error counts).
+ * Prints a markdown table of all matched results and exits with 1 if anything regressed.
+ */
+public class RegressionGate {
+
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_REGRESSION = 1;
+    public static final int EXIT_USAGE = 2;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 4 || args.length == 4 && !args[2].equals("--threshold")) {
+            System.err.println("Usage: RegressionGate <baseline json or dir> <current json or dir> [--threshold <percent>]");
+            System.exit(EXIT_USAGE);
+        }
+        final double threshold = args.length == 4 ? Double.parseDouble(args[3]) : 0;
+
+        final Map<String, StoredResult> baseline = load(Paths.get(args[0]));
+        final Map<String, StoredResult> current = load(Paths.get(args[1]));
+
+        final int regressions = compare(baseline, current, threshold);
+        System.exit(regressions > 0 ? EXIT_REGRESSION : EXIT_OK);
+    }
+
+    /**
+     * @return number of regressed results
+     */
+    public static int compare(
+            final Map<String, StoredResult> baseline,
+            final Map<String, StoredResult> current,
+            final double thresholdPercent
+    ) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Benchmark | Baseline | Error | Current | Error | Units | Change | Status |\n")
+                .append("| ------ | ------ | ------ | ------ | ------ | ------ | ------ | ------ |\n");
+
+        int regressions = 0;
+        final List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, StoredResult> entry : baseline.entrySet()) {
+            final StoredResult base = entry.getValue();
+            final StoredResult cur = current.get(entry.getKey());
+            if (cur == null) {
+                missing.add(entry.getKey());
+                continue;
+            }
+
+            final double diff = cur.getScore() - base.getScore();
+            // Positive when the current run is worse
+            final double worse = base.isHigherBetter() ? -diff : diff;
+            final double margin = Math.max(
+                    errorOf(base) + errorOf(cur),
+                    Math.abs(base.getScore()) * thresholdPercent / 100
+            );
+
+            final String status;
+            if (!base.getScoreUnit().equals(cur.getScoreUnit())) {
+                status = "units differ";
+            } else if (worse > margin) {
+                status = "**REGRESSION**";
+                regressions++;
+            } else if (-worse > margin) {
+                status = "improvement";
+            } else {
+                status = "ok";
+            }
+
+            sb.append("| ").append(entry.getKey())
+                    .append(" | ").append(format(base.getScore())).append(" | ").append(format(errorOf(base)))
+                    .append(" | ").append(format(cur.getScore())).append(" | ").append(format(errorOf(cur)))
+                    .append(" | ").append(cur.getScoreUnit())
+                    .append(" | ").append(base.getScore() == 0
+                            ? "-"
+                            : String.format(Locale.US, "%+.1f%%", diff / Math.abs(base.getScore()) * 100))
+                    .append(" | ").append(status)
+                    .append(" |\n");
+        }
+
+        System.out.print(sb);
+        for (String key : missing) {
+            System.out.println("Missing in the current run: " + key);
+        }
+        for (String key : current.keySet()) {
+            if (!baseline.containsKey(key)) System.out.println("New in the current run: " + key);
+        }
+        System.out.println();
+        System.out.println(regressions == 0
+                ? "No regressions"
+                : regressions + " regression(s) beyond the score error"
+                        + (thresholdPercent > 0 ? " and " + thresholdPercent + "%" : ""));
+        return regressions;
+    }
+
+    /**
+     * @param path a JMH JSON file, or a directory of them
+     */
+    public static Map<String, StoredResult> load(final Path path) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, "*.json")) {
+                for (Path file : stream) files.add(file);
+            }
+            Collections.sort(files);
+        } else {
+            files.add(path);
+        }
+
+        final Map<String, StoredResult> results = new TreeMap<>();
+        for (Path file : files) {
+            for (StoredResult r : StoredResult.read(file)) {
+                results.put(r.getKey(), r);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * JMH has no error for a single measurement iteration
+     */
+    private static double errorOf(final StoredResult r) {
+        return Double.isNaN(r.getScoreError()) ? 0 : r.getScoreError();
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.US, Math.abs(value) >= 100 ? "%.0f" : "%.3f", value);
+    }
+}
@@ -0,0 +1,391 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regenerates the human readable results from the JSON files kept by {@link ResultStore}:
+ * <pre>
+ * java -cp target/benchmarks.jar com.olekdia.runner.ResultRenderer results/&lt;jdk&gt;/&lt;commit&gt;
+ *         [--readme README.md] [--sources src/main]
+ * </pre>
+ * For every {@code <Benchmark>.json} it writes {@code <Benchmark>.md} with a markdown table per params
+ * and an SVG bar chart per table, next to the JSON.
+ *
+ * With {@code --readme}, every block between
+ * {@code <!-- results <Benchmark> [param=value ...] [chart=<svg path>] [skip=<row>,...] -->}
+ * and {@code <!-- /results -->} is replaced with a fresh table of the matching results,
+ * chart is written to the given path, skip leaves rows out of the chart only.
+ *
+ * With {@code --sources}, the result blocks in the Javadoc of the benchmark classes are rewritten.
+ */
+public class ResultRenderer {
+
+    private static final String JSON_SUFFIX = ".json";
+
+    private static final Pattern README_BLOCK = Pattern.compile(
+            "<!-- results ([^>]*?) -->\\n.*?<!-- /results -->", Pattern.DOTALL);
+    private static final Pattern JAVADOC_BLOCK = Pattern.compile(
+            "/\\*\\*(?:(?!\\*/).)*?\\n[ \\t*]*Benchmark\\s[^\\n]*Mode.*?\\*/", Pattern.DOTALL);
+
+    private static final int CHART_WIDTH = 800;
+    private static final int CHART_LABEL_WIDTH = 220;
+    private static final int CHART_VALUE_WIDTH = 110;
+    private static final int CHART_ROW_HEIGHT = 24;
+    private static final int CHART_TITLE_HEIGHT = 36;
+    private static final String CHART_BAR_COLOR = "#4e79a7";
+
+    public static void main(String[] args) throws IOException {
+        // The results dir, then pairs of an option and its value
+        if (args.length == 0 || args.length % 2 == 0) {
+            System.err.println("Usage: ResultRenderer <results dir> [--readme README.md] [--sources src/main]");
+            System.exit(2);
+        }
+
+        final Path dir = Paths.get(args[0]);
+        Path readme = null;
+        Path sources = null;
+        for (int i = 1; i < args.length; i += 2) {
+            if (args[i].equals("--readme")) {
+                readme = Paths.get(args[i + 1]);
+            } else if (args[i].equals("--sources")) {
+                sources = Paths.get(args[i + 1]);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final String origin = originOf(dir);
+        final Map<String, List<StoredResult>> byClass = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + JSON_SUFFIX)) {
+            for (Path file : files) {
+                final String name = file.getFileName().toString();
+                byClass.put(name.substring(0, name.length() - JSON_SUFFIX.length()), StoredResult.read(file));
+            }
+        }
+
+        for (Map.Entry<String, List<StoredResult>> entry : byClass.entrySet()) {
+            writeReport(dir, entry.getKey(), entry.getValue(), origin);
+            if (sources != null) {
+                rewriteJavadoc(sources, entry.getValue(), origin);
+            }
+        }
+        if (readme != null) {
+            rewriteReadme(readme, byClass);
+        }
+    }
+
+    /**
+     * results/&lt;jdk&gt;/&lt;commit&gt; gives "JDK &lt;jdk&gt;, commit &lt;commit&gt;"
+     */
+    private static String originOf(final Path dir) {
+        final Path absolute = dir.toAbsolutePath().normalize();
+        final int count = absolute.getNameCount();
+        if (count < 2) return absolute.toString();
+        return "JDK " + absolute.getName(count - 2) + ", commit " + absolute.getName(count - 1);
+    }
+
+    private static void writeReport(
+            final Path dir,
+            final String name,
+            final List<StoredResult> results,
+            final String origin
+    ) throws IOException {
+        final Map<String, List<StoredResult>> byParams = new LinkedHashMap<>();
+        for (StoredResult r : results) {
+            byParams.computeIfAbsent(r.getParamsString(), k -> new ArrayList<>()).add(r);
+        }
+
+        final StringBuilder md = new StringBuilder();
+        md.append("#### ").append(name).append('\n')
+                .append(origin).append('\n');
+
+        for (Map.Entry<String, List<StoredResult>> group : byParams.entrySet()) {
+            final String params = group.getKey();
+            final List<StoredResult> rows = sorted(group.getValue());
+            final String title = params.isEmpty() ? name : name + " " + params;
+            final String chart = params.isEmpty()
+                    ? name + ".svg"
+                    : name + "-" + params.replaceAll("[^A-Za-z0-9=_.-]+", "-") + ".svg";
+
+            md.append('\n');
+            if (!params.isEmpty()) md.append("###### ").append(params).append('\n');
+            md.append(table(rows, false))
+                    .append('\n')
+                    .append("![").append(title).append("](./").append(chart).append(")\n");
+            write(dir.resolve(chart), chart(title, rows, Collections.<String>emptySet()));
+        }
+
+        write(dir.resolve(name + ".md"), md.toString());
+    }
+
+    private static List<StoredResult> sorted(final List<StoredResult> results) {
+        final List<StoredResult> sorted = new ArrayList<>(results);
+        sorted.sort((a, b) -> a.isHigherBetter()
+                ? Double.compare(b.getScore(), a.getScore())
+                : Double.compare(a.getScore(), b.getScore()));
+        return sorted;
+    }
+
+    /**
+     * The table format of README: the row name is the benchmark method,
+     * params are added only when the rows differ in them.
+     */
+    private static String table(final List<StoredResult> rows, final boolean withParams) {
+        boolean hasAlloc = false;
+        for (StoredResult r : rows) {
+            hasAlloc |= r.getAllocPerOp() != null;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Collection | Score _").append(rows.get(0).getScoreUnit()).append("_ |");
+        if (hasAlloc) sb.append(" Allocated _B/op_ |");
+        sb.append('\n').append("| ------ | ------ |");
+        if (hasAlloc) sb.append(" ------ |");
+        sb.append('\n');
+
+        for (StoredResult r : rows) {
+            sb.append("| ").append(rowName(r, withParams))
+                    .append(" | ").append(formatScore(r.getScore())).append(" |");
+            if (hasAlloc) {
+                sb.append(' ').append(r.getAllocPerOp() == null ? "-" : formatScore(r.getAllocPerOp())).append(" |");
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String rowName(final StoredResult r, final boolean withParams) {
+        final String params = r.getParamsString();
+        return withParams && !params.isEmpty() ? r.getMethodName() + " " + params : r.getMethodName();
+    }
+
+    private static String formatScore(final double score) {
+        if (Double.isNaN(score)) return "NaN";
+
+        final double abs = Math.abs(score);
+        if (abs >= 100) return String.format(Locale.US, "%.0f", score);
+        if (abs >= 1) return String.format(Locale.US, "%.1f", score);
+        return String.format(Locale.US, "%.3f", score);
+    }
+
+    private static String chart(final String title, final List<StoredResult> rows, final Set<String> skip) {
+        final List<StoredResult> bars = new ArrayList<>();
+        double max = 0;
+        for (StoredResult r : rows) {
+            if (skip.contains(r.getMethodName())) continue;
+            bars.add(r);
+            if (!Double.isNaN(r.getScore())) max = Math.max(max, r.getScore());
+        }
+
+        final int barSpace = CHART_WIDTH - CHART_LABEL_WIDTH - CHART_VALUE_WIDTH;
+        final int height = CHART_TITLE_HEIGHT + bars.size() * CHART_ROW_HEIGHT + 12;
+        final String unit = rows.get(0).getScoreUnit();
+
+        final StringBuilder svg = new StringBuilder();
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(CHART_WIDTH)
+                .append("\" height=\"").append(height)
+                .append("\" viewBox=\"0 0 ").append(CHART_WIDTH).append(' ').append(height)
+                .append("\" font-family=\"DejaVu Sans, Arial, sans-serif\" font-size=\"12\">\n")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#ffffff\"/>\n")
+                .append("<text x=\"").append(CHART_WIDTH / 2).append("\" y=\"22\" text-anchor=\"middle\" font-size=\"14\" font-weight=\"bold\">")
+                .append(escape(title + ", " + unit + (rows.get(0).isHigherBetter() ? " (higher is better)" : " (lower is better)")))
+                .append("</text>\n");
+
+        int y = CHART_TITLE_HEIGHT;
+        for (StoredResult r : bars) {
+            final double score = Double.isNaN(r.getScore()) ? 0 : r.getScore();
+            final int barWidth = max > 0 ? (int) Math.max(1, Math.round(score / max * barSpace)) : 1;
+            final int textY = y + CHART_ROW_HEIGHT / 2 + 4;
+
+            svg.append("<text x=\"").append(CHART_LABEL_WIDTH - 8).append("\" y=\"").append(textY)
+                    .append("\" text-anchor=\"end\">").append(escape(r.getMethodName())).append("</text>\n")
+                    .append("<rect x=\"").append(CHART_LABEL_WIDTH).append("\" y=\"").append(y + 4)
+                    .append("\" width=\"").append(barWidth).append("\" height=\"").append(CHART_ROW_HEIGHT - 8)
+                    .append("\" fill=\"").append(CHART_BAR_COLOR).append("\"/>\n")
+                    .append("<text x=\"").append(CHART_LABEL_WIDTH + barWidth + 6).append("\" y=\"").append(textY)
+                    .append("\">").append(escape(formatScore(r.getScore()))).append("</text>\n");
+            y += CHART_ROW_HEIGHT;
+        }
+        svg.append("</svg>\n");
+        return svg.toString();
+    }
+
+    private static String escape(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static void rewriteReadme(
+            final Path readme,
+            final Map<String, List<StoredResult>> byClass
+    ) throws IOException {
+        final Path base = readme.toAbsolutePath().getParent();
+        final String text = read(readme);
+        final Matcher matcher = README_BLOCK.matcher(text);
+        final StringBuffer sb = new StringBuffer();
+
+        while (matcher.find()) {
+            final String spec = matcher.group(1).trim();
+            final String[] parts = spec.split("\\s+");
+            final List<StoredResult> results = byClass.get(parts[0]);
+            if (results == null) {
+                // Not measured in this run, keep the old block
+                matcher.appendReplacement(sb, Matcher.quoteReplacement(matcher.group()));
+                continue;
+            }
+
+            final Map<String, String> filter = new LinkedHashMap<>();
+            String chart = null;
+            final Set<String> skip = new HashSet<>();
+            for (int i = 1; i < parts.length; i++) {
+                final int eq = parts[i].indexOf('=');
+                final String key = parts[i].substring(0, eq);
+                final String value = parts[i].substring(eq + 1);
+                if (key.equals("chart")) {
+                    chart = value;
+                } else if (key.equals("skip")) {
+                    skip.addAll(Arrays.asList(value.split(",")));
+                } else {
+                    filter.put(key, value);
+                }
+            }
+
+            final List<StoredResult> rows = new ArrayList<>();
+            final Set<String> otherParams = new HashSet<>();
+            for (StoredResult r : results) {
+                if (matches(r, filter)) {
+                    rows.add(r);
+                    otherParams.add(r.getParamsString());
+                }
+            }
+
+            final StringBuilder block = new StringBuilder();
+            block.append("<!-- results ").append(spec).append(" -->\n");
+            if (!rows.isEmpty()) {
+                final List<StoredResult> sortedRows = sorted(rows);
+                block.append(table(sortedRows, otherParams.size() > 1));
+                if (chart != null) {
+                    write(base.resolve(chart), chart(parts[0], sortedRows, skip));
+                    block.append('\n').append("![").append(parts[0]).append("](./").append(chart).append(")\n");
+                }
+            }
+            block.append("<!-- /results -->");
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(block.toString()));
+        }
+        matcher.appendTail(sb);
+        write(readme, sb.toString());
+    }
+
+    private static boolean matches(final StoredResult r, final Map<String, String> filter) {
+        for (Map.Entry<String, String> f : filter.entrySet()) {
+            final String value = f.getKey().equals("threads")
+                    ? String.valueOf(r.getThreads())
+                    : r.getParams().get(f.getKey());
+            if (!f.getValue().equals(value)) return false;
+        }
+        return true;
+    }
+
+    private static void rewriteJavadoc(
+            final Path sources,
+            final List<StoredResult> results,
+            final String origin
+    ) throws IOException {
+        final String path = results.get(0).getClassName().replace('.', '/');
+        Path source = sources.resolve("java").resolve(path + ".java");
+        if (!Files.exists(source)) source = sources.resolve("kotlin").resolve(path + ".kt");
+        if (!Files.exists(source)) return;
+
+        final String text = read(source);
+        final Matcher matcher = JAVADOC_BLOCK.matcher(text);
+        if (!matcher.find()) return;
+
+        final String updated = text.substring(0, matcher.start())
+                + javadoc(results, origin)
+                + text.substring(matcher.end());
+        write(source, updated);
+    }
+
+    /**
+     * Same layout as the JMH console summary
+     */
+    private static String javadoc(final List<StoredResult> results, final String origin) {
+        final List<String> paramKeys = new ArrayList<>(results.get(0).getParams().keySet());
+        final List<String> header = new ArrayList<>();
+        header.add("Benchmark");
+        for (String key : paramKeys) header.add("(" + key + ")");
+        header.addAll(Arrays.asList("Mode", "Score", "", "Error", "Units"));
+
+        final List<List<String>> lines = new ArrayList<>();
+        lines.add(header);
+        for (StoredResult r : sorted(results)) {
+            final List<String> line = new ArrayList<>();
+            line.add(r.getSimpleClassName() + "." + r.getMethodName());
+            for (String key : paramKeys) line.add(r.getParams().get(key));
+            line.add(r.getMode());
+            line.add(String.format(Locale.US, "%.3f", r.getScore()));
+            line.add(Double.isNaN(r.getScoreError()) ? "" : "±");
+            line.add(Double.isNaN(r.getScoreError()) ? "" : String.format(Locale.US, "%.3f", r.getScoreError()));
+            line.add(r.getScoreUnit());
+            lines.add(line);
+        }
+
+        final int[] widths = new int[header.size()];
+        for (List<String> line : lines) {
+            for (int i = 0; i < line.size(); i++) {
+                widths[i] = Math.max(widths[i], line.get(i) == null ? 0 : line.get(i).length());
+            }
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("/**\n ").append(origin).append('\n');
+        for (List<String> line : lines) {
+            final StringBuilder row = new StringBuilder(" ");
+            for (int i = 0; i < line.size(); i++) {
+                final String cell = line.get(i) == null ? "" : line.get(i);
+                if (i == 0) {
+                    row.append(cell);
+                    for (int pad = cell.length(); pad < widths[i]; pad++) row.append(' ');
+                } else {
+                    row.append("  ");
+                    for (int pad = cell.length(); pad < widths[i]; pad++) row.append(' ');
+                    row.append(cell);
+                }
+            }
+            sb.append(row.toString().replaceAll("\\s+$", "")).append('\n');
+        }
+        sb.append(" */");
+        return sb.toString();
+    }
+
+    private static String read(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static void write(final Path file, final String text) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.runner;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the results of every {@code main()} run as JMH JSON, one file per benchmark class:
+ * {@code results/<jdk version>/<commit>/<Benchmark>.json}.
+ *
+ * The root directory is set with {@code -Dbenchmark.results}, {@code none} switches saving off.
+ * The commit is taken from {@code git describe --always --dirty}, or from {@code -Dbenchmark.commit}.
+ * The saved files are turned into markdown tables and charts by {@link ResultRenderer}.
+ */
+public class ResultStore {
+
+    public static final String RESULTS_PROPERTY = "benchmark.results";
+    public static final String COMMIT_PROPERTY = "benchmark.commit";
+    public static final String DEFAULT_RESULTS = "results";
+    public static final String NO_RESULTS = "none";
+    public static final String UNKNOWN_COMMIT = "unknown";
+
+    /**
+     * @return the same results, so the call can be chained into a report
+     */
+    public static Collection<RunResult> save(final Class<?> benchmark, final Collection<RunResult> results) {
+        if (results.isEmpty()) return results;
+
+        write(benchmark, out -> ResultFormatFactory.getInstance(ResultFormatType.JSON, out).writeOut(results));
+        return results;
+    }
+
+    /**
+     * Saves results measured without JMH in the same JSON format, so they are rendered
+     * and compared like all the others.
+     */
+    public static List<StoredResult> saveStored(final Class<?> benchmark, final List<StoredResult> results) {
+        if (results.isEmpty()) return results;
+
+        write(benchmark, out -> {
+            out.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                out.print(results.get(i).toJson());
+                out.println(i < results.size() - 1 ? "," : "");
+            }
+            out.println("]");
+        });
+        return results;
+    }
+
+    private static void write(final Class<?> benchmark, final Consumer<PrintStream> writer) {
+        final String root = System.getProperty(RESULTS_PROPERTY, DEFAULT_RESULTS);
+        if (root.equals(NO_RESULTS)) return;
+
+        final Path file = Paths.get(root, jdkVersion(), commit(), benchmark.getSimpleName() + ".json");
+        try {
+            Files.createDirectories(file.getParent());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8.name())) {
+                writer.accept(out);
+            }
+            System.out.println("Results saved to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Results were not saved to " + file.toAbsolutePath() + ": " + e);
+        }
+    }
+
+    public static String jdkVersion() {
+        return System.getProperty("java.version");
+    }
+
+    public static String commit() {
+        final String commit = System.getProperty(COMMIT_PROPERTY);
+        if (commit != null) return commit;
+
+        try {
+            final Process git = new ProcessBuilder("git", "describe", "--always", "--dirty")
+                    .redirectErrorStream(true)
+                    .start();
+            final String line;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+                line = reader.readLine();
+            }
+            return git.waitFor() == 0 && line != null ? line.trim() : UNKNOWN_COMMIT;
+        } catch (IOException e) {
+            return UNKNOWN_COMMIT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN_COMMIT;
+        }
+    }
+}
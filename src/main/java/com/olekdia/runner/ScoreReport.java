@@ -0,0 +1,71 @@
+/**
+ * Copyright 2019 Oleksandr Albul
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.olekdia.runner;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Prints the results as a markdown table: one row per benchmark and params,
+ * the score next to the bytes allocated per op, when the GC profiler was on.
+ */
+public class ScoreReport {
+
+    public static final String ALLOC_RATE_NORM = "·gc.alloc.rate.norm";
+
+    /**
+     * @return bytes allocated per op, or {@code null} if the run had no GC profiler
+     */
+    public static Double allocPerOp(final RunResult result) {
+        final Result<?> alloc = result.getSecondaryResults().get(ALLOC_RATE_NORM);
+        return alloc == null ? null : alloc.getScore();
+    }
+
+    /**
+     * Benchmark method name followed by its params, like {@code mixed map=HashMap size=1000}
+     */
+    public static String nameOf(final RunResult result) {
+        final String benchmark = result.getParams().getBenchmark();
+        final StringBuilder name = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.') + 1));
+        for (String key : result.getParams().getParamsKeys()) {
+            name.append(' ').append(key).append('=').append(result.getParams().getParam(key));
+        }
+        return name.toString();
+    }
+
+    public static void print(final Collection<RunResult> results) {
+        if (results.isEmpty()) return;
+
+        final String unit = results.iterator().next().getPrimaryResult().getScoreUnit();
+        final StringBuilder sb = new StringBuilder();
+        sb.append("| Benchmark | Score _").append(unit).append("_ | Allocated _B/op_ |\n")
+                .append("| ------ | ------ | ------ |\n");
+
+        for (RunResult r : results) {
+            final Double alloc = allocPerOp(r);
+            sb.append("| ").append(nameOf(r))
+                    .append(" | ").append(String.format(Locale.US, "%.3f", r.getPrimaryResult().getScore()))
+                    .append(" | ").append(alloc == null ? "-" : String.format(Locale.US, "%.1f", alloc))
+                    .append(" |\n");
+        }
+
+        System.out.println();
+        System.out.print(sb);
+    }
+}
@@ -0,0 +1,220 @@
+package com.olekdia.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * One entry of a JMH JSON result file, as saved by {@link ResultStore}.
+ */
+public class StoredResult {
+
+    public static final String MODE_SINGLE_SHOT = "ss";
+
+    private final String mBenchmark;
+    private final String mMode;
+    private final int mThreads;
+    private final Map<String, String> mParams;
+    private final double mScore;
+    private final double mScoreError;
+    private final String mScoreUnit;
+    private final Double mAllocPerOp;
+
+    private StoredResult(
+            final String benchmark,
+            final String mode,
+            final int threads,
+            final Map<String, String> params,
+            final double score,
+            final double scoreError,
+            final String scoreUnit,
+            final Double allocPerOp
+    ) {
+        mBenchmark = benchmark;
+        mMode = mode;
+        mThreads = threads;
+        mParams = params;
+        mScore = score;
+        mScoreError = scoreError;
+        mScoreUnit = scoreUnit;
+        mAllocPerOp = allocPerOp;
+    }
+
+    /**
+     * A result measured outside of JMH, like a memory footprint. It is deterministic, so it has no error.
+     */
+    public static StoredResult of(
+            final String benchmark,
+            final Map<String, String> params,
+            final double score,
+            final String scoreUnit
+    ) {
+        return new StoredResult(benchmark, MODE_SINGLE_SHOT, 1, params, score, Double.NaN, scoreUnit, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<StoredResult> read(final Path file) throws IOException {
+        final String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        final List<StoredResult> results = new ArrayList<>();
+
+        try {
+            for (Object entry : (List<Object>) Json.parse(text)) {
+                final Map<String, Object> json = (Map<String, Object>) entry;
+
+                final Map<String, String> params = new LinkedHashMap<>();
+                final Map<String, Object> jsonParams = (Map<String, Object>) json.get("params");
+                if (jsonParams != null) {
+                    for (Map.Entry<String, Object> param : jsonParams.entrySet()) {
+                        params.put(param.getKey(), String.valueOf(param.getValue()));
+                    }
+                }
+
+                final Map<String, Object> primary = (Map<String, Object>) json.get("primaryMetric");
+                final Map<String, Object> secondary = (Map<String, Object>) json.get("secondaryMetrics");
+                final Map<String, Object> alloc = secondary == null
+                        ? null
+                        : (Map<String, Object>) secondary.get(ScoreReport.ALLOC_RATE_NORM);
+
+                results.add(new StoredResult(
+                        (String) json.get("benchmark"),
+                        (String) json.get("mode"),
+                        toDouble(json.get("threads")).intValue(),
+                        params,
+                        toDouble(primary.get("score")),
+                        toDouble(primary.get("scoreError")),
+                        (String) primary.get("scoreUnit"),
+                        alloc == null ? null : toDouble(alloc.get("score"))
+                ));
+            }
+        } catch (ClassCastException | NullPointerException | IllegalArgumentException e) {
+            throw new IOException("Not a JMH JSON result file: " + file, e);
+        }
+        return results;
+    }
+
+    /**
+     * JMH writes NaN and infinities as strings
+     */
+    private static Double toDouble(final Object value) {
+        return value instanceof Double ? (Double) value : Double.valueOf(String.valueOf(value));
+    }
+
+    /**
+     * Full benchmark name, like {@code com.olekdia.pcollections.MapRandomAccess.HashMap}
+     */
+    public String getBenchmark() {
+        return mBenchmark;
+    }
+
+    public String getClassName() {
+        return mBenchmark.substring(0, mBenchmark.lastIndexOf('.'));
+    }
+
+    public String getSimpleClassName() {
+        final String className = getClassName();
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    public String getMethodName() {
+        return mBenchmark.substring(mBenchmark.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * JMH short mode name: thrpt, avgt, sample, ss
+     */
+    public String getMode() {
+        return mMode;
+    }
+
+    public boolean isHigherBetter() {
+        return mMode.equals("thrpt");
+    }
+
+    public int getThreads() {
+        return mThreads;
+    }
+
+    public Map<String, String> getParams() {
+        return mParams;
+    }
+
+    public double getScore() {
+        return mScore;
+    }
+
+    public double getScoreError() {
+        return mScoreError;
+    }
+
+    public String getScoreUnit() {
+        return mScoreUnit;
+    }
+
+    /**
+     * @return bytes allocated per op, or {@code null} if the run had no GC profiler
+     */
+    public Double getAllocPerOp() {
+        return mAllocPerOp;
+    }
+
+    /**
+     * Params as {@code key=value} pairs separated by spaces, empty if there are none.
+     * The thread count is added when the benchmark ran on more than one thread.
+     */
+    public String getParamsString() {
+        final StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String> param : mParams.entrySet()) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(param.getKey()).append('=').append(param.getValue());
+        }
+        if (mThreads != 1) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append("threads=").append(mThreads);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Identifies the same measurement across runs: benchmark name, mode and params.
+     */
+    public String getKey() {
+        final String params = getParamsString();
+        return mBenchmark + " " + mMode + (params.isEmpty() ? "" : " " + params);
+    }
+
+    /**
+     * The fields of a JMH JSON entry, which {@link #read(Path)} needs
+     */
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\n")
+                .append("    \"benchmark\" : ").append(Json.quote(mBenchmark)).append(",\n")
+                .append("    \"mode\" : ").append(Json.quote(mMode)).append(",\n")
+                .append("    \"threads\" : ").append(mThreads).append(",\n")
+                .append("    \"params\" : {");
+        String separator = "\n";
+        for (Map.Entry<String, String> param : mParams.entrySet()) {
+            sb.append(separator).append("        ").append(Json.quote(param.getKey()))
+                    .append(" : ").append(Json.quote(param.getValue()));
+            separator = ",\n";
+        }
+        sb.append("\n    },\n")
+                .append("    \"primaryMetric\" : {\n")
+                .append("        \"score\" : ").append(toJson(mScore)).append(",\n")
+                .append("        \"scoreError\" : ").append(toJson(mScoreError)).append(",\n")
+                .append("        \"scoreUnit\" : ").append(Json.quote(mScoreUnit)).append('\n')
+                .append("    },\n")
+                .append("    \"secondaryMetrics\" : {\n    }\n")
+                .append('}');
+        return sb.toString();
+    }
+
+    /**
+     * The same as JMH, NaN and infinities become strings
+     */
+    private static String toJson(final double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? Json.quote(String.valueOf(value)) : String.valueOf(value);
+    }
+}
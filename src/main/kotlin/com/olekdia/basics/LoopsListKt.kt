@@ -1,9 +1,11 @@
 package com.olekdia.basics
 
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import com.olekdia.runner.ScoreReport
 import org.openjdk.jmh.annotations.*
 import org.openjdk.jmh.runner.Runner
 import org.openjdk.jmh.runner.RunnerException
-import org.openjdk.jmh.runner.options.OptionsBuilder
 import java.util.*
 import java.util.concurrent.TimeUnit
 
@@ -22,11 +24,8 @@ const val SIZE = 10_000_000
 
 @Throws(RunnerException::class)
 fun main(args: Array<String>) {
-    val opt = OptionsBuilder()
-            .include(LoopsListKt::class.java.simpleName)
-            .forks(1)
-            .build()
-    Runner(opt).run()
+    val opt = BenchmarkOptions.of(LoopsListKt::class.java).build()
+    ScoreReport.print(ResultStore.save(LoopsListKt::class.java, Runner(opt).run()))
 }
 
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
@@ -0,0 +1,93 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.mutate
+import kotlinx.collections.immutable.persistentListOf
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [ListAppend]: stdlib lists and arrays, built element by element
+ * or by the size-and-init factories, and the persistent list of kotlinx.collections.immutable.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class ListAppendKt {
+
+    @Param("10", "1000", "100000", "1000000", "10000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var values: Array<Int>
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(ListAppendKt::class.java).build()
+            ScalingReport.printPerElement(ResultStore.save(ListAppendKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        val random = Random()
+        values = Array(size) { random.nextInt(size) }
+    }
+
+    @Benchmark
+    fun MutableListOf(): Any {
+        val list = mutableListOf<Int>()
+        for (v in values) list.add(v)
+        return list
+    }
+
+    @Benchmark
+    fun ArrayListPresized(): Any {
+        val list = ArrayList<Int>(size)
+        for (v in values) list.add(v)
+        return list
+    }
+
+    @Benchmark
+    fun ListInit(): Any {
+        val values = values
+        return List(size) { values[it] }
+    }
+
+    @Benchmark
+    fun ArrayOfIntInit(): Any {
+        val values = values
+        return Array(size) { values[it] }
+    }
+
+    @Benchmark
+    fun IntArrayInit(): Any {
+        val values = values
+        return IntArray(size) { values[it] }
+    }
+
+    @Benchmark
+    fun PersistentList(): Any {
+        var list = persistentListOf<Int>()
+        for (v in values) list = list.add(v)
+        return list
+    }
+
+    /**
+     * All the elements go through one builder, the persistent list is made once at the end
+     */
+    @Benchmark
+    fun PersistentListMutate(): Any {
+        return persistentListOf<Int>().mutate { list ->
+            for (v in values) list.add(v)
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentList
+import kotlinx.collections.immutable.toPersistentList
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [ListContains]: `in` on `IntArray`, `Array<Int>`, a list and
+ * a persistent list, and the inline `any`, which compares in the lambda instead of
+ * calling `equals` from the list.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class ListContainsKt {
+
+    @Param("10", "1000", "100000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var intArray: IntArray
+    private lateinit var list: List<Int>
+    private lateinit var persistentList: PersistentList<Int>
+
+    /**
+     * The searched element is read from the array, an `Int` field would be boxed on every call
+     */
+    private lateinit var array: Array<Int>
+    private var searchedIndex: Int = 0
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(ListContainsKt::class.java).build()
+            ScalingReport.printPerOp(ResultStore.save(ListContainsKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        intArray = IntArray(size) { it }
+        array = Array(size) { it }
+        list = array.toList()
+        persistentList = list.toPersistentList()
+        searchedIndex = size * 8 / 9
+    }
+
+    @Benchmark
+    fun IntArray(): Boolean {
+        return intArray[searchedIndex] in intArray
+    }
+
+    @Benchmark
+    fun ArrayOfInt(): Boolean {
+        return array[searchedIndex] in array
+    }
+
+    @Benchmark
+    fun List(): Boolean {
+        return array[searchedIndex] in list
+    }
+
+    @Benchmark
+    fun ListAny(): Boolean {
+        val searched = array[searchedIndex]
+        return list.any { it == searched }
+    }
+
+    @Benchmark
+    fun PersistentList(): Boolean {
+        return array[searchedIndex] in persistentList
+    }
+}
@@ -0,0 +1,124 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentList
+import kotlinx.collections.immutable.toPersistentList
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [ListIterate]: the same sum over `IntArray`, `Array<Int>`, a list
+ * and a persistent list, through plain loops, the inline `forEach` and a lambda passed to
+ * a function which is not inline. The pipelines filter and map the same list eagerly,
+ * with a list between every step, and lazily, as a sequence.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class ListIterateKt {
+
+    @Param("10", "1000", "200000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var intArray: IntArray
+    private lateinit var array: Array<Int>
+    private lateinit var list: List<Int>
+    private lateinit var persistentList: PersistentList<Int>
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(ListIterateKt::class.java).build()
+            ScalingReport.printPerElement(ResultStore.save(ListIterateKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        intArray = IntArray(size) { it }
+        array = Array(size) { it }
+        list = array.toList()
+        persistentList = list.toPersistentList()
+    }
+
+    @Benchmark
+    fun IntArray(): Long {
+        var sum = 0L
+        for (n in intArray) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun ArrayOfInt(): Long {
+        var sum = 0L
+        for (n in array) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun ListForIn(): Long {
+        var sum = 0L
+        for (n in list) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun ListForEachInline(): Long {
+        var sum = 0L
+        list.forEach { sum += it }
+        return sum
+    }
+
+    /**
+     * The lambda is a real object here, and the captured sum is boxed into a Ref
+     */
+    @Benchmark
+    fun ListForEachLambda(): Long {
+        var sum = 0L
+        forEachNotInline(list) { sum += it }
+        return sum
+    }
+
+    @Benchmark
+    fun PersistentList(): Long {
+        var sum = 0L
+        for (n in persistentList) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun LoopFilterMap(): Long {
+        var sum = 0L
+        for (n in list) {
+            if (n % 2 == 0) sum += n * 2
+        }
+        return sum
+    }
+
+    @Benchmark
+    fun IterableFilterMap(): Long {
+        return list
+            .filter { it % 2 == 0 }
+            .map { it * 2L }
+            .sum()
+    }
+
+    @Benchmark
+    fun SequenceFilterMap(): Long {
+        return list.asSequence()
+            .filter { it % 2 == 0 }
+            .map { it * 2L }
+            .sum()
+    }
+
+    private fun forEachNotInline(list: List<Int>, action: (Int) -> Unit) {
+        for (n in list) action(n)
+    }
+}
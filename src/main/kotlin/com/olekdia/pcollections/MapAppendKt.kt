@@ -0,0 +1,86 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.mutate
+import kotlinx.collections.immutable.persistentHashMapOf
+import kotlinx.collections.immutable.persistentMapOf
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [MapAppend]: `mutableMapOf` (a LinkedHashMap), `hashMapOf`,
+ * `associateWith`, and the persistent maps of kotlinx.collections.immutable,
+ * one `put` at a time and through a builder.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class MapAppendKt {
+
+    @Param("10", "1000", "100000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var values: Array<Int>
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(MapAppendKt::class.java).build()
+            ScalingReport.printPerElement(ResultStore.save(MapAppendKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        val random = Random()
+        values = Array(size) { random.nextInt(size) }
+    }
+
+    @Benchmark
+    fun MutableMapOf(): Any {
+        val map = mutableMapOf<Int, Int>()
+        for (v in values) map[v] = v
+        return map
+    }
+
+    @Benchmark
+    fun HashMapOf(): Any {
+        val map = hashMapOf<Int, Int>()
+        for (v in values) map[v] = v
+        return map
+    }
+
+    @Benchmark
+    fun AssociateWith(): Any {
+        return values.asList().associateWith { it }
+    }
+
+    @Benchmark
+    fun PersistentMap(): Any {
+        var map = persistentMapOf<Int, Int>()
+        for (v in values) map = map.put(v, v)
+        return map
+    }
+
+    @Benchmark
+    fun PersistentHashMap(): Any {
+        var map = persistentHashMapOf<Int, Int>()
+        for (v in values) map = map.put(v, v)
+        return map
+    }
+
+    @Benchmark
+    fun PersistentHashMapMutate(): Any {
+        return persistentHashMapOf<Int, Int>().mutate { map ->
+            for (v in values) map[v] = v
+        }
+    }
+}
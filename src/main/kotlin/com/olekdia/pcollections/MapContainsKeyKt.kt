@@ -0,0 +1,86 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentMap
+import kotlinx.collections.immutable.toPersistentHashMap
+import kotlinx.collections.immutable.toPersistentMap
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [MapContainsKey]: `in` on the maps the Kotlin builders return
+ * (`associateWith` is a LinkedHashMap, `toSortedMap`) and on the ordered and hash
+ * persistent maps of kotlinx.collections.immutable.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class MapContainsKeyKt {
+
+    @Param("10", "1000", "100000", "500000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var mutableMap: Map<Int, Int>
+    private lateinit var hashMap: HashMap<Int, Int>
+    private lateinit var sortedMap: SortedMap<Int, Int>
+    private lateinit var persistentMap: PersistentMap<Int, Int>
+    private lateinit var persistentHashMap: PersistentMap<Int, Int>
+
+    /**
+     * The searched key is read from the array, an `Int` field would be boxed on every call
+     */
+    private lateinit var array: Array<Int>
+    private var searchedIndex: Int = 0
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(MapContainsKeyKt::class.java).build()
+            ScalingReport.printPerOp(ResultStore.save(MapContainsKeyKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        array = Array(size) { it }
+        mutableMap = array.asList().associateWith { it }
+        hashMap = HashMap(mutableMap)
+        sortedMap = mutableMap.toSortedMap()
+        persistentMap = mutableMap.toPersistentMap()
+        persistentHashMap = mutableMap.toPersistentHashMap()
+        searchedIndex = size * 7 / 9
+    }
+
+    @Benchmark
+    fun MutableMap(): Boolean {
+        return array[searchedIndex] in mutableMap
+    }
+
+    @Benchmark
+    fun HashMap(): Boolean {
+        return array[searchedIndex] in hashMap
+    }
+
+    @Benchmark
+    fun SortedMap(): Boolean {
+        return array[searchedIndex] in sortedMap
+    }
+
+    @Benchmark
+    fun PersistentMap(): Boolean {
+        return array[searchedIndex] in persistentMap
+    }
+
+    @Benchmark
+    fun PersistentHashMap(): Boolean {
+        return array[searchedIndex] in persistentHashMap
+    }
+}
@@ -0,0 +1,113 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentMap
+import kotlinx.collections.immutable.toPersistentHashMap
+import kotlinx.collections.immutable.toPersistentMap
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [MapIterate]: the same sum over the values of the Kotlin maps and
+ * the persistent maps, and over the entries of a map, destructured in `for` and in the
+ * inline `forEach`, and through the two-argument `forEach`, which is `Map.forEach` of the JDK
+ * taking a BiConsumer.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class MapIterateKt {
+
+    @Param("10", "1000", "100000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var mutableMap: Map<Int, Int>
+    private lateinit var hashMap: HashMap<Int, Int>
+    private lateinit var sortedMap: SortedMap<Int, Int>
+    private lateinit var persistentMap: PersistentMap<Int, Int>
+    private lateinit var persistentHashMap: PersistentMap<Int, Int>
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(MapIterateKt::class.java).build()
+            ScalingReport.printPerElement(ResultStore.save(MapIterateKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        mutableMap = List(size) { it }.associateWith { it }
+        hashMap = HashMap(mutableMap)
+        sortedMap = mutableMap.toSortedMap()
+        persistentMap = mutableMap.toPersistentMap()
+        persistentHashMap = mutableMap.toPersistentHashMap()
+    }
+
+    @Benchmark
+    fun MutableMap(): Long {
+        var sum = 0L
+        for (v in mutableMap.values) sum += v
+        return sum
+    }
+
+    @Benchmark
+    fun MutableMapEntries(): Long {
+        var sum = 0L
+        for ((_, v) in mutableMap) sum += v
+        return sum
+    }
+
+    @Benchmark
+    fun MutableMapForEachInline(): Long {
+        var sum = 0L
+        mutableMap.forEach { (_, v) -> sum += v }
+        return sum
+    }
+
+    /**
+     * The lambda is a real object here, and the captured sum is boxed into a Ref
+     */
+    @Benchmark
+    fun MutableMapForEachBiConsumer(): Long {
+        var sum = 0L
+        mutableMap.forEach { _, v -> sum += v }
+        return sum
+    }
+
+    @Benchmark
+    fun HashMap(): Long {
+        var sum = 0L
+        for (v in hashMap.values) sum += v
+        return sum
+    }
+
+    @Benchmark
+    fun SortedMap(): Long {
+        var sum = 0L
+        for (v in sortedMap.values) sum += v
+        return sum
+    }
+
+    @Benchmark
+    fun PersistentMap(): Long {
+        var sum = 0L
+        for (v in persistentMap.values) sum += v
+        return sum
+    }
+
+    @Benchmark
+    fun PersistentHashMap(): Long {
+        var sum = 0L
+        for (v in persistentHashMap.values) sum += v
+        return sum
+    }
+}
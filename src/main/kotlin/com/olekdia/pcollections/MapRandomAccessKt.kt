@@ -0,0 +1,131 @@
+package com.olekdia.pcollections
+
+import com.olekdia.concurrent.ContentionReport
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentMap
+import kotlinx.collections.immutable.toPersistentHashMap
+import kotlinx.collections.immutable.toPersistentMap
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.ThreadParams
+import org.openjdk.jmh.results.RunResult
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [MapRandomAccess]: the same key types and index streams looked up
+ * with `map[key]` in the maps the Kotlin builders return and in the ordered and hash
+ * persistent maps. The sorted map is a TreeMap built from the keys, which are all Comparable.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class MapRandomAccessKt {
+
+    @Param("1000", "100000")
+    @JvmField
+    var size: Int = 0
+
+    @Param(Keys.SEQUENTIAL_INT, Keys.RANDOM_INT, Keys.SHORT_STRING, Keys.UUID, Keys.POOR_HASH)
+    @JvmField
+    var keys: String = ""
+
+    @Param(AccessPattern.UNIFORM, AccessPattern.ZIPF)
+    @JvmField
+    var access: String = ""
+
+    private lateinit var keyArray: Array<Any>
+    private lateinit var mutableMap: Map<Any, Int>
+    private lateinit var hashMap: HashMap<Any, Int>
+    private lateinit var sortedMap: SortedMap<Any, Int>
+    private lateinit var persistentMap: PersistentMap<Any, Int>
+    private lateinit var persistentHashMap: PersistentMap<Any, Int>
+
+    companion object {
+        /**
+         * The same thread sweep as [MapRandomAccess.main]
+         */
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val results = ArrayList<RunResult>()
+            for (threads in ContentionReport.threadCounts()) {
+                val builder = BenchmarkOptions.of(MapRandomAccessKt::class.java)
+                    .threads(threads)
+                if (threads > 1) {
+                    builder.param("size", "100000")
+                        .param("keys", Keys.SEQUENTIAL_INT, Keys.SHORT_STRING)
+                }
+                results.addAll(Runner(builder.build()).run())
+            }
+            ResultStore.save(MapRandomAccessKt::class.java, results)
+
+            ScalingReport.printPerElement(results.filter { it.params.threads == 1 })
+            ContentionReport.print(results)
+        }
+    }
+
+    @State(Scope.Thread)
+    open class Lookups {
+        lateinit var stream: IndexStream
+
+        @Setup
+        fun setup(benchmark: MapRandomAccessKt, thread: ThreadParams) {
+            stream = IndexStream(benchmark.access, benchmark.size, thread.threadIndex.toLong())
+        }
+    }
+
+    @Setup
+    fun setup() {
+        keyArray = Keys.create(keys, size)
+        mutableMap = keyArray.withIndex().associate { (i, key) -> key to i }
+        hashMap = HashMap(mutableMap)
+        sortedMap = TreeMap(mutableMap)
+        persistentMap = mutableMap.toPersistentMap()
+        persistentHashMap = mutableMap.toPersistentHashMap()
+    }
+
+    @Benchmark
+    fun MutableMap(lookups: Lookups): Any? {
+        val stream = lookups.stream
+        var value: Int? = null
+        for (i in 0 until size) value = mutableMap[keyArray[stream.next()]]
+        return value
+    }
+
+    @Benchmark
+    fun HashMap(lookups: Lookups): Any? {
+        val stream = lookups.stream
+        var value: Int? = null
+        for (i in 0 until size) value = hashMap[keyArray[stream.next()]]
+        return value
+    }
+
+    @Benchmark
+    fun SortedMap(lookups: Lookups): Any? {
+        val stream = lookups.stream
+        var value: Int? = null
+        for (i in 0 until size) value = sortedMap[keyArray[stream.next()]]
+        return value
+    }
+
+    @Benchmark
+    fun PersistentMap(lookups: Lookups): Any? {
+        val stream = lookups.stream
+        var value: Int? = null
+        for (i in 0 until size) value = persistentMap[keyArray[stream.next()]]
+        return value
+    }
+
+    @Benchmark
+    fun PersistentHashMap(lookups: Lookups): Any? {
+        val stream = lookups.stream
+        var value: Int? = null
+        for (i in 0 until size) value = persistentHashMap[keyArray[stream.next()]]
+        return value
+    }
+}
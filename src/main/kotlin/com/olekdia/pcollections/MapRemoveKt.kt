@@ -0,0 +1,103 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentMap
+import kotlinx.collections.immutable.mutate
+import kotlinx.collections.immutable.toPersistentHashMap
+import kotlinx.collections.immutable.toPersistentMap
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.BenchmarkParams
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [MapRemove]: the same keys removed from the maps the Kotlin builders
+ * return, and from the persistent maps one `remove` at a time and through a builder.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class MapRemoveKt {
+
+    @Param("10", "1000", "100000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var array: Array<Int>
+    private lateinit var mutableMap: MutableMap<Int, Int>
+    private lateinit var hashMap: HashMap<Int, Int>
+    private lateinit var persistentMap: PersistentMap<Int, Int>
+    private lateinit var persistentHashMap: PersistentMap<Int, Int>
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(MapRemoveKt::class.java).build()
+            ScalingReport.printPerElement(ResultStore.save(MapRemoveKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        array = Array(size) { it }
+        mutableMap = array.asList().associateWithTo(LinkedHashMap(size)) { it }
+        hashMap = HashMap(mutableMap)
+        persistentMap = mutableMap.toPersistentMap()
+        persistentHashMap = mutableMap.toPersistentHashMap()
+    }
+
+    /**
+     * As in [MapRemove.refill], only the mutable map of the running benchmark is refilled
+     * before every invocation, persistent ones never change
+     */
+    @Setup(Level.Invocation)
+    fun refill(params: BenchmarkParams) {
+        when (params.benchmark.substringAfterLast('.')) {
+            "MutableMap" -> refill(mutableMap)
+            "HashMap" -> refill(hashMap)
+        }
+    }
+
+    private fun refill(map: MutableMap<Int, Int>) {
+        map.clear()
+        array.asList().associateWithTo(map) { it }
+    }
+
+    @Benchmark
+    fun MutableMap(): Any {
+        for (i in size - size / 1000 downTo 0) mutableMap.remove(array[i / 2])
+        return mutableMap
+    }
+
+    @Benchmark
+    fun HashMap(): Any {
+        for (i in size - size / 1000 downTo 0) hashMap.remove(array[i / 2])
+        return hashMap
+    }
+
+    @Benchmark
+    fun PersistentMap(): Any {
+        var map = persistentMap
+        for (i in size - size / 1000 downTo 0) map = map.remove(array[i / 2])
+        return map
+    }
+
+    @Benchmark
+    fun PersistentHashMap(): Any {
+        var map = persistentHashMap
+        for (i in size - size / 1000 downTo 0) map = map.remove(array[i / 2])
+        return map
+    }
+
+    @Benchmark
+    fun PersistentHashMapMutate(): Any {
+        return persistentHashMap.mutate { map ->
+            for (i in size - size / 1000 downTo 0) map.remove(array[i / 2])
+        }
+    }
+}
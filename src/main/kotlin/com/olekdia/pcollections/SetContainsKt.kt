@@ -0,0 +1,86 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentSet
+import kotlinx.collections.immutable.toPersistentHashSet
+import kotlinx.collections.immutable.toPersistentSet
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [SetContains]: `in` on the sets the Kotlin builders return
+ * (`toMutableSet` is a LinkedHashSet, `toHashSet`, `toSortedSet`) and on the ordered
+ * and hash persistent sets of kotlinx.collections.immutable.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class SetContainsKt {
+
+    @Param("10", "1000", "100000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var mutableSet: MutableSet<Int>
+    private lateinit var hashSet: HashSet<Int>
+    private lateinit var sortedSet: SortedSet<Int>
+    private lateinit var persistentSet: PersistentSet<Int>
+    private lateinit var persistentHashSet: PersistentSet<Int>
+
+    /**
+     * The searched element is read from the array, an `Int` field would be boxed on every call
+     */
+    private lateinit var array: Array<Int>
+    private var searchedIndex: Int = 0
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(SetContainsKt::class.java).build()
+            ScalingReport.printPerOp(ResultStore.save(SetContainsKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        array = Array(size) { it }
+        mutableSet = array.toMutableSet()
+        hashSet = array.toHashSet()
+        sortedSet = array.toSortedSet()
+        persistentSet = array.asList().toPersistentSet()
+        persistentHashSet = array.asList().toPersistentHashSet()
+        searchedIndex = size * 8 / 9
+    }
+
+    @Benchmark
+    fun MutableSet(): Boolean {
+        return array[searchedIndex] in mutableSet
+    }
+
+    @Benchmark
+    fun HashSet(): Boolean {
+        return array[searchedIndex] in hashSet
+    }
+
+    @Benchmark
+    fun SortedSet(): Boolean {
+        return array[searchedIndex] in sortedSet
+    }
+
+    @Benchmark
+    fun PersistentSet(): Boolean {
+        return array[searchedIndex] in persistentSet
+    }
+
+    @Benchmark
+    fun PersistentHashSet(): Boolean {
+        return array[searchedIndex] in persistentHashSet
+    }
+}
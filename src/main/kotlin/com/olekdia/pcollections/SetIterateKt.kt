@@ -0,0 +1,95 @@
+package com.olekdia.pcollections
+
+import com.olekdia.runner.BenchmarkOptions
+import com.olekdia.runner.ResultStore
+import kotlinx.collections.immutable.PersistentSet
+import kotlinx.collections.immutable.toPersistentHashSet
+import kotlinx.collections.immutable.toPersistentSet
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.RunnerException
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Kotlin counterpart of [SetIterate]: the same sum over the sets the Kotlin builders return
+ * and over the ordered and hash persistent sets, through `for` and the inline `forEach`.
+ */
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Measurement(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+open class SetIterateKt {
+
+    @Param("10", "1000", "200000", "1000000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var mutableSet: MutableSet<Int>
+    private lateinit var hashSet: HashSet<Int>
+    private lateinit var sortedSet: SortedSet<Int>
+    private lateinit var persistentSet: PersistentSet<Int>
+    private lateinit var persistentHashSet: PersistentSet<Int>
+
+    companion object {
+        @JvmStatic
+        @Throws(RunnerException::class)
+        fun main(args: Array<String>) {
+            val opt = BenchmarkOptions.of(SetIterateKt::class.java).build()
+            ScalingReport.printPerElement(ResultStore.save(SetIterateKt::class.java, Runner(opt).run()))
+        }
+    }
+
+    @Setup
+    fun setup() {
+        val array = Array(size) { it }
+        mutableSet = array.toMutableSet()
+        hashSet = array.toHashSet()
+        sortedSet = array.toSortedSet()
+        persistentSet = array.asList().toPersistentSet()
+        persistentHashSet = array.asList().toPersistentHashSet()
+    }
+
+    @Benchmark
+    fun MutableSet(): Long {
+        var sum = 0L
+        for (n in mutableSet) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun MutableSetForEach(): Long {
+        var sum = 0L
+        mutableSet.forEach { sum += it }
+        return sum
+    }
+
+    @Benchmark
+    fun HashSet(): Long {
+        var sum = 0L
+        for (n in hashSet) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun SortedSet(): Long {
+        var sum = 0L
+        for (n in sortedSet) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun PersistentSet(): Long {
+        var sum = 0L
+        for (n in persistentSet) sum += n
+        return sum
+    }
+
+    @Benchmark
+    fun PersistentHashSet(): Long {
+        var sum = 0L
+        for (n in persistentHashSet) sum += n
+        return sum
+    }
+}